@@ -0,0 +1,61 @@
+package ir.mehradn.mehradconfig.core;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ByteSink} that writes to a growing byte array.
+ */
+public class ByteArraySink implements ByteSink {
+    private byte[] bytes;
+    private int size = 0;
+
+    public ByteArraySink() {
+        this(64);
+    }
+
+    /**
+     * @param initialCapacity the initial size of the byte array
+     */
+    public ByteArraySink(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    @Override
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        this.bytes[this.size++] = (byte)value;
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.bytes, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    /**
+     * @return the number of the bytes written so far
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Discards the written bytes, keeping the allocated array for reuse.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * @return a copy of the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, this.size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (this.size + extra > this.bytes.length)
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + extra));
+    }
+}
@@ -0,0 +1,52 @@
+package ir.mehradn.mehradconfig.core;
+
+/**
+ * A {@link ByteSource} that reads from a byte array.
+ */
+public class ByteArraySource implements ByteSource {
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+
+    /**
+     * @param bytes the bytes to read
+     */
+    public ByteArraySource(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param bytes  the array to read from
+     * @param offset the index of the first byte to read
+     * @param length the number of the bytes to read
+     */
+    public ByteArraySource(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of an array of size " + bytes.length + "!");
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    @Override
+    public byte readByte() {
+        if (this.position >= this.end)
+            throw new IndexOutOfBoundsException("No bytes left to read!");
+        return this.bytes[this.position++];
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        if (length < 0 || length > remaining())
+            throw new IndexOutOfBoundsException("Can't read " + length + " bytes, only " + remaining() + " bytes are left!");
+        byte[] bytes = new byte[length];
+        System.arraycopy(this.bytes, this.position, bytes, 0, length);
+        this.position += length;
+        return bytes;
+    }
+
+    @Override
+    public int remaining() {
+        return this.end - this.position;
+    }
+}
@@ -0,0 +1,68 @@
+package ir.mehradn.mehradconfig.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * ByteSink is a destination for the binary encoding of config values. The encoding is the same as the one of minecraft's packet buffers: numbers
+ * are big-endian, {@code VarInt}s use 7 bits per byte, and strings and arrays are prefixed by their length as a {@code VarInt}. That way the
+ * bytes written by a sink can be read by a packet buffer, and the other way around.
+ *
+ * @see ByteSource
+ * @see ByteArraySink
+ */
+public interface ByteSink {
+    /**
+     * @param value the byte to write, only the lowest 8 bits are used
+     */
+    void writeByte(int value);
+
+    default void writeBytes(byte[] bytes) {
+        for (byte b : bytes)
+            writeByte(b);
+    }
+
+    default void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    default void writeInt(int value) {
+        writeByte(value >>> 24);
+        writeByte(value >>> 16);
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    default void writeLong(long value) {
+        writeInt((int)(value >>> 32));
+        writeInt((int)value);
+    }
+
+    default void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+
+    default void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    default void writeUtf(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    default void writeLongArray(long[] values) {
+        writeVarInt(values.length);
+        for (long value : values)
+            writeLong(value);
+    }
+
+    default void writeBitSet(BitSet bitSet) {
+        writeLongArray(bitSet.toLongArray());
+    }
+}
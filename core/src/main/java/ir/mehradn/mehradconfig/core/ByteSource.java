@@ -0,0 +1,108 @@
+package ir.mehradn.mehradconfig.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * ByteSource is a source of the binary encoding of config values, it reads what {@link ByteSink} writes.
+ *
+ * @see ByteSink
+ * @see ByteArraySource
+ */
+public interface ByteSource {
+    /**
+     * @return the next byte
+     * @throws IndexOutOfBoundsException if there are no more bytes
+     */
+    byte readByte();
+
+    /**
+     * @return the number of the bytes left to read, or {@link Integer#MAX_VALUE} if it isn't known
+     */
+    default int remaining() {
+        return Integer.MAX_VALUE;
+    }
+
+    default byte[] readBytes(int length) {
+        if (length < 0 || length > remaining())
+            throw new IndexOutOfBoundsException("Can't read " + length + " bytes, only " + remaining() + " bytes are left!");
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+            bytes[i] = readByte();
+        return bytes;
+    }
+
+    default boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    default int readInt() {
+        return (readByte() & 0xFF) << 24 | (readByte() & 0xFF) << 16 | (readByte() & 0xFF) << 8 | (readByte() & 0xFF);
+    }
+
+    default long readLong() {
+        return (long)readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+    }
+
+    default double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    default int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalStateException("VarInt too big!");
+    }
+
+    /**
+     * Reads the {@code VarInt} length of an array or a collection, and checks that the source has enough bytes left for it. The values should be
+     * allocated with the returned length, so a corrupted or malicious length can't allocate more than the source holds.
+     *
+     * @param elementSize the minimum size of each element in bytes
+     * @return the length
+     * @throws IndexOutOfBoundsException if the length is negative or there aren't enough bytes left
+     */
+    default int readLength(int elementSize) {
+        int length = readVarInt();
+        if (length < 0 || (long)length * elementSize > remaining())
+            throw new IndexOutOfBoundsException("Invalid length " + length + ", only " + remaining() + " bytes are left!");
+        return length;
+    }
+
+    default String readUtf() {
+        return new String(readBytes(readLength(1)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string with the same limits as {@code FriendlyByteBuf.readUtf(int)}.
+     *
+     * @param maxLength the maximum number of characters allowed, the encoded string can't be longer than 3 bytes per character
+     * @return the read string
+     * @throws IllegalStateException if the string is longer than allowed
+     */
+    default String readUtf(int maxLength) {
+        int length = readLength(1);
+        if (length > maxLength * 3)
+            throw new IllegalStateException("The encoded string is longer than the maximum allowed (" + length + " > " + maxLength * 3 + ")!");
+        String value = new String(readBytes(length), StandardCharsets.UTF_8);
+        if (value.length() > maxLength)
+            throw new IllegalStateException("The string is longer than the maximum allowed (" + value.length() + " > " + maxLength + ")!");
+        return value;
+    }
+
+    default long[] readLongArray() {
+        long[] values = new long[readLength(8)];
+        for (int i = 0; i < values.length; i++)
+            values[i] = readLong();
+        return values;
+    }
+
+    default BitSet readBitSet() {
+        return BitSet.valueOf(readLongArray());
+    }
+}
@@ -0,0 +1,54 @@
+package ir.mehradn.mehradconfig.core;
+
+import java.util.Arrays;
+
+/**
+ * ChangeListeners is a small list of listeners for implementing {@link ConfigValue#addChangeListener}. It's copied on each write, so running the
+ * listeners doesn't need any locking and costs nothing when there are no listeners.
+ */
+public final class ChangeListeners {
+    private static final Runnable[] EMPTY = new Runnable[0];
+    private volatile Runnable[] listeners = EMPTY;
+
+    /**
+     * @param listener the listener to add
+     */
+    public synchronized void add(Runnable listener) {
+        Runnable[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Removes the first occurrence of the given listener.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void remove(Runnable listener) {
+        Runnable[] listeners = this.listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                Runnable[] removed = new Runnable[listeners.length - 1];
+                System.arraycopy(listeners, 0, removed, 0, i);
+                System.arraycopy(listeners, i + 1, removed, i, listeners.length - i - 1);
+                this.listeners = removed;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether there are no listeners
+     */
+    public boolean isEmpty() {
+        return this.listeners.length == 0;
+    }
+
+    /**
+     * Runs all of the listeners.
+     */
+    public void run() {
+        for (Runnable listener : this.listeners)
+            listener.run();
+    }
+}
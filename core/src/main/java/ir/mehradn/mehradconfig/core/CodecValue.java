@@ -0,0 +1,94 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonElement;
+import java.util.Objects;
+
+/**
+ * CodecValue is a config value that is encoded by a {@link ValueCodec}. Use it to describe configs in tools that run without the game, with the
+ * same names, defaults and codecs as the entries of the config.
+ *
+ * @param <T> the type of the config value
+ */
+public class CodecValue <T> implements ConfigValue<T> {
+    private final String name;
+    private final ValueCodec<T> codec;
+    private final T defaultValue;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private T value;
+
+    /**
+     * @param name         the name of the value
+     * @param codec        the codec of the value
+     * @param defaultValue the default value
+     */
+    public CodecValue(String name, ValueCodec<T> codec, T defaultValue) {
+        this.name = name;
+        this.codec = codec;
+        this.defaultValue = codec.trim(Objects.requireNonNull(defaultValue));
+        this.value = this.defaultValue;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public T get() {
+        return this.value;
+    }
+
+    @Override
+    public void set(T value) {
+        T trimmed = this.codec.trim(value);
+        if (Objects.equals(this.value, trimmed))
+            return;
+        this.value = trimmed;
+        this.listeners.run();
+    }
+
+    @Override
+    public void reset() {
+        set(this.defaultValue);
+    }
+
+    @Override
+    public boolean isDefault() {
+        return Objects.equals(this.value, this.defaultValue);
+    }
+
+    @Override
+    public boolean shouldWrite() {
+        return true;
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return this.codec.toJson(this.value);
+    }
+
+    @Override
+    public void fromJson(JsonElement json) {
+        set(this.codec.fromJson(json));
+    }
+
+    @Override
+    public void write(ByteSink sink) {
+        this.codec.write(sink, this.value);
+    }
+
+    @Override
+    public void read(ByteSource source) {
+        set(this.codec.read(source));
+    }
+}
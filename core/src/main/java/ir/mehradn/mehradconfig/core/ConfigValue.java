@@ -0,0 +1,92 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonElement;
+
+/**
+ * ConfigValue is the minecraft-independent part of a config entry: a named value with a default, and its json and binary encodings. It can be used
+ * without the game, for example in tools that validate or migrate config files.
+ *
+ * @param <T> the type of the config value
+ * @see CodecValue
+ * @see ConfigValues
+ */
+public interface ConfigValue <T> {
+    /**
+     * The name of the entry, used for translation and json
+     *
+     * @return the name of the entry
+     */
+    String getName();
+
+    /**
+     * @return the value of this entry
+     */
+    T get();
+
+    /**
+     * Sets the value of this entry.
+     *
+     * @param value the new value
+     */
+    void set(T value);
+
+    /**
+     * Resets the value to the default value.
+     */
+    void reset();
+
+    /**
+     * @return whether the current value is same as the default value
+     */
+    boolean isDefault();
+
+    /**
+     * Whether the current value should be written. (in json, buffers, ...)
+     *
+     * @return whether the current value should be written
+     */
+    boolean shouldWrite();
+
+    /**
+     * Adds a listener that gets called after the value of this entry changes. That includes changes by {@link #set}, {@link #reset},
+     * {@link #fromJson} and reading from buffers, and changes of {@link #isDefault} or {@link #shouldWrite} that keep the same value. Every value
+     * must support listeners, the configs rely on them to track their changes.
+     *
+     * @param listener the listener to be called after the value changes
+     * @see ChangeListeners
+     */
+    void addChangeListener(Runnable listener);
+
+    /**
+     * Removes a listener that was added by {@link #addChangeListener}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeChangeListener(Runnable listener);
+
+    /**
+     * @return a json element describing the current value
+     */
+    JsonElement toJson();
+
+    /**
+     * Sets the value from a json element. It is safe to assume that the json was generated by {@link #toJson}.
+     *
+     * @param json a json element describing a value, most likely created by {@code toJson}
+     */
+    void fromJson(JsonElement json);
+
+    /**
+     * Writes the current value to the given byte sink, in the same format as the packet buffers.
+     *
+     * @param sink the sink to write to
+     */
+    void write(ByteSink sink);
+
+    /**
+     * Reads and sets the value from the given byte source.
+     *
+     * @param source the source to read from
+     */
+    void read(ByteSource source);
+}
@@ -0,0 +1,84 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonObject;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Reads and writes whole lists of config values, in the same formats as the configs. The json object has a member for each value that should be
+ * written, and the binary encoding is a bitset of the written values followed by the written values in order.
+ */
+public final class ConfigValues {
+    private ConfigValues() { }
+
+    /**
+     * @param values the values of the config
+     * @return a json object containing the values that should be written
+     */
+    public static JsonObject toJson(List<? extends ConfigValue<?>> values) {
+        JsonObject json = new JsonObject();
+        for (ConfigValue<?> value : values)
+            if (value.shouldWrite())
+                json.add(value.getName(), value.toJson());
+        return json;
+    }
+
+    /**
+     * Sets the values from a json object, and resets the values that are missing from it.
+     *
+     * @param values the values of the config
+     * @param json   a json object containing the values
+     */
+    public static void fromJson(List<? extends ConfigValue<?>> values, JsonObject json) {
+        for (ConfigValue<?> value : values) {
+            String name = value.getName();
+            if (json.has(name))
+                value.fromJson(json.get(name));
+            else
+                value.reset();
+        }
+    }
+
+    /**
+     * @param values the values of the config
+     * @param sink   the sink to write the values to
+     */
+    public static void write(List<? extends ConfigValue<?>> values, ByteSink sink) {
+        int size = values.size();
+        BitSet bs = new BitSet(size);
+        for (int i = 0; i < size; i++)
+            bs.set(i, values.get(i).shouldWrite());
+        sink.writeBitSet(bs);
+
+        for (int i = 0; i < size; i++)
+            if (bs.get(i))
+                values.get(i).write(sink);
+    }
+
+    /**
+     * Reads and sets the values from the given source, and resets the values that weren't written.
+     *
+     * @param values the values of the config
+     * @param source the source to read the values from
+     */
+    public static void read(List<? extends ConfigValue<?>> values, ByteSource source) {
+        BitSet bs = source.readBitSet();
+        for (int i = 0; i < values.size(); i++) {
+            if (bs.get(i))
+                values.get(i).read(source);
+            else
+                values.get(i).reset();
+        }
+    }
+
+    /**
+     * @param values the values of the config
+     * @return if all of the values are the same as their default values
+     */
+    public static boolean isAllDefault(List<? extends ConfigValue<?>> values) {
+        for (ConfigValue<?> value : values)
+            if (!value.isDefault())
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,215 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EnumSelection is an immutable set of the constants of an enum. The first 64 constants are held in a {@code long} bitmask, and the rest, for
+ * larger enums, in a {@code long} array, so {@link #contains} is a single bit test.
+ *
+ * @param <T> the type of the enum
+ */
+public final class EnumSelection <T extends Enum<T>> {
+    private final EnumTable<T> table;
+    private final long bits;
+    private final long[] more;
+
+    private EnumSelection(EnumTable<T> table, long bits, long[] more) {
+        this.table = table;
+        this.bits = bits;
+        this.more = more;
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param <T>       the type of the enum
+     * @return a selection of none of the constants
+     */
+    public static <T extends Enum<T>> EnumSelection<T> none(Class<T> enumClass) {
+        EnumTable<T> table = EnumTable.of(enumClass);
+        return new EnumSelection<>(table, 0, newMore(table));
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param <T>       the type of the enum
+     * @return a selection of all the constants
+     */
+    public static <T extends Enum<T>> EnumSelection<T> all(Class<T> enumClass) {
+        EnumTable<T> table = EnumTable.of(enumClass);
+        long[] more = newMore(table);
+        for (int i = 0; i < more.length; i++)
+            more[i] = wordMask(table, i + 1);
+        return new EnumSelection<>(table, wordMask(table, 0), more);
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param constants the selected constants
+     * @param <T>       the type of the enum
+     * @return a selection of the given constants
+     */
+    @SafeVarargs
+    public static <T extends Enum<T>> EnumSelection<T> of(Class<T> enumClass, T... constants) {
+        return of(enumClass, Arrays.asList(constants));
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param constants the selected constants
+     * @param <T>       the type of the enum
+     * @return a selection of the given constants
+     */
+    public static <T extends Enum<T>> EnumSelection<T> of(Class<T> enumClass, Collection<T> constants) {
+        EnumTable<T> table = EnumTable.of(enumClass);
+        long bits = 0;
+        long[] more = newMore(table);
+        for (T constant : constants) {
+            int ordinal = constant.ordinal();
+            if (ordinal < 64)
+                bits |= 1L << ordinal;
+            else
+                more[(ordinal >>> 6) - 1] |= 1L << ordinal;
+        }
+        return new EnumSelection<>(table, bits, more);
+    }
+
+    /**
+     * Reads a selection that was written by {@link #toJson}.
+     *
+     * @param enumClass the class object of the enum
+     * @param json      a json array of the names of the selected constants
+     * @param <T>       the type of the enum
+     * @return the read selection
+     * @throws JsonParseException if a name doesn't belong to any of the constants
+     */
+    public static <T extends Enum<T>> EnumSelection<T> fromJson(Class<T> enumClass, JsonElement json) {
+        EnumTable<T> table = EnumTable.of(enumClass);
+        List<T> constants = new ArrayList<>();
+        for (JsonElement element : json.getAsJsonArray()) {
+            T constant = table.byName(element.getAsString());
+            if (constant == null)
+                throw new JsonParseException("Unknown constant " + element.getAsString() + " of " + enumClass.getName() + "!");
+            constants.add(constant);
+        }
+        return of(enumClass, constants);
+    }
+
+    /**
+     * Reads a selection that was written by {@link #write}. The bits past the last constant of the enum are dropped.
+     *
+     * @param enumClass the class object of the enum
+     * @param source    the source to read from
+     * @param <T>       the type of the enum
+     * @return the read selection
+     */
+    public static <T extends Enum<T>> EnumSelection<T> read(Class<T> enumClass, ByteSource source) {
+        EnumTable<T> table = EnumTable.of(enumClass);
+        long bits = source.readLong() & wordMask(table, 0);
+        long[] more = newMore(table);
+        for (int i = 0; i < more.length; i++)
+            more[i] = source.readLong() & wordMask(table, i + 1);
+        return new EnumSelection<>(table, bits, more);
+    }
+
+    private static long[] newMore(EnumTable<?> table) {
+        return new long[Math.max(0, (table.size() + 63 >>> 6) - 1)];
+    }
+
+    private static long wordMask(EnumTable<?> table, int word) {
+        int size = table.size() - (word << 6);
+        return (size >= 64 ? -1L : size <= 0 ? 0 : (1L << size) - 1);
+    }
+
+    public Class<T> enumClass() {
+        return this.table.enumClass();
+    }
+
+    /**
+     * @param constant the constant to look for
+     * @return whether the constant is selected
+     */
+    public boolean contains(T constant) {
+        int ordinal = constant.ordinal();
+        return (ordinal < 64 ? (this.bits & 1L << ordinal) : (this.more[(ordinal >>> 6) - 1] & 1L << ordinal)) != 0;
+    }
+
+    /**
+     * @param constant the constant to select or deselect
+     * @param selected whether the constant should be selected
+     * @return a selection that is the same as this one, except for the given constant
+     */
+    public EnumSelection<T> with(T constant, boolean selected) {
+        if (contains(constant) == selected)
+            return this;
+        int ordinal = constant.ordinal();
+        if (ordinal < 64)
+            return new EnumSelection<>(this.table, this.bits ^ 1L << ordinal, this.more);
+        long[] more = this.more.clone();
+        more[(ordinal >>> 6) - 1] ^= 1L << ordinal;
+        return new EnumSelection<>(this.table, this.bits, more);
+    }
+
+    /**
+     * @return the number of the selected constants
+     */
+    public int size() {
+        int size = Long.bitCount(this.bits);
+        for (long word : this.more)
+            size += Long.bitCount(word);
+        return size;
+    }
+
+    /**
+     * @return the selected constants, in the order of their ordinals
+     */
+    public List<T> toList() {
+        List<T> constants = new ArrayList<>(size());
+        for (int i = 0; i < this.table.size(); i++)
+            if ((i < 64 ? (this.bits & 1L << i) : (this.more[(i >>> 6) - 1] & 1L << i)) != 0)
+                constants.add(this.table.get(i));
+        return constants;
+    }
+
+    /**
+     * @return a json array of the names of the selected constants
+     */
+    public JsonArray toJson() {
+        JsonArray json = new JsonArray(size());
+        for (T constant : toList())
+            json.add(this.table.nameOf(constant));
+        return json;
+    }
+
+    /**
+     * Writes the bitmask as 8 byte words, the number of the words comes from the size of the enum.
+     *
+     * @param sink the sink to write to
+     */
+    public void write(ByteSink sink) {
+        sink.writeLong(this.bits);
+        for (long word : this.more)
+            sink.writeLong(word);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || obj instanceof EnumSelection<?> selection && this.table == selection.table && this.bits == selection.bits &&
+                               Arrays.equals(this.more, selection.more));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.bits) + Arrays.hashCode(this.more);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
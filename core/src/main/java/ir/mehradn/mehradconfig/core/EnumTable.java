@@ -0,0 +1,109 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.annotations.SerializedName;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EnumTable is the name and ordinal lookup table of an enum class. The tables are built once per class, and resolve constants without
+ * reflection or cloning the constants array.
+ * <p>
+ * The json names of the constants follow gson, a {@link SerializedName} annotation on a constant replaces its name, and its alternate names
+ * are also accepted when reading.
+ *
+ * @param <T> the type of the enum
+ */
+public final class EnumTable <T extends Enum<T>> {
+    private static final ClassValue<EnumTable<?>> TABLES = new ClassValue<>() {
+        @Override
+        protected EnumTable<?> computeValue(Class<?> type) {
+            return create(type.asSubclass(Enum.class));
+        }
+    };
+    private final Class<T> enumClass;
+    private final T[] constants;
+    private final String[] names;
+    private final Map<String, T> byName;
+
+    private EnumTable(Class<T> enumClass) {
+        this.enumClass = enumClass;
+        this.constants = enumClass.getEnumConstants();
+        this.names = new String[this.constants.length];
+        this.byName = new HashMap<>();
+        for (T constant : this.constants) {
+            String name = constant.name();
+            SerializedName annotation;
+            try {
+                annotation = enumClass.getField(name).getAnnotation(SerializedName.class);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+            if (annotation != null) {
+                name = annotation.value();
+                for (String alternate : annotation.alternate())
+                    this.byName.putIfAbsent(alternate, constant);
+            }
+            this.names[constant.ordinal()] = name;
+            this.byName.put(name, constant);
+        }
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param <T>       the type of the enum
+     * @return the table of the enum
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<T>> EnumTable<T> of(Class<T> enumClass) {
+        return (EnumTable<T>)TABLES.get(enumClass);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumTable<?> create(Class<? extends Enum> enumClass) {
+        return new EnumTable(enumClass);
+    }
+
+    public Class<T> enumClass() {
+        return this.enumClass;
+    }
+
+    /**
+     * @return the number of the constants of the enum
+     */
+    public int size() {
+        return this.constants.length;
+    }
+
+    /**
+     * @param ordinal the ordinal of the constant
+     * @return the constant with the ordinal
+     */
+    public T get(int ordinal) {
+        return this.constants[ordinal];
+    }
+
+    /**
+     * @param constant a constant of the enum
+     * @return the json name of the constant
+     */
+    public String nameOf(T constant) {
+        return this.names[constant.ordinal()];
+    }
+
+    /**
+     * @param name the json name, or an alternate name, of a constant
+     * @return the constant with the name, or {@code null} if there's no such constant
+     */
+    public T byName(String name) {
+        return this.byName.get(name);
+    }
+
+    /**
+     * @param constant a constant of the enum
+     * @return the constant after the given one, the first constant comes after the last one
+     */
+    public T next(T constant) {
+        int i = constant.ordinal() + 1;
+        return this.constants[i >= this.constants.length ? 0 : i];
+    }
+}
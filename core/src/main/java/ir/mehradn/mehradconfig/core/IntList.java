@@ -0,0 +1,125 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import java.util.Arrays;
+
+/**
+ * IntList is an immutable list of integers backed by an {@code int} array. A sorted copy of the values is made when the list is created, so
+ * {@link #contains} is a binary search.
+ */
+public final class IntList {
+    /**
+     * The empty list.
+     */
+    public static final IntList EMPTY = new IntList(new int[0]);
+    private final int[] values;
+    private final int[] sorted;
+
+    private IntList(int[] values) {
+        this.values = values;
+        int[] sorted = values;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                sorted = values.clone();
+                Arrays.sort(sorted);
+                break;
+            }
+        }
+        this.sorted = sorted;
+    }
+
+    /**
+     * @param values the values of the list, the array is copied
+     * @return a list of the given values
+     */
+    public static IntList of(int... values) {
+        return (values.length == 0 ? EMPTY : new IntList(values.clone()));
+    }
+
+    /**
+     * Reads a list that was written by {@link #toJson}.
+     *
+     * @param json a json array of integers
+     * @return a list of the values of the array
+     */
+    public static IntList fromJson(JsonElement json) {
+        JsonArray array = json.getAsJsonArray();
+        int[] values = new int[array.size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = array.get(i).getAsInt();
+        return (values.length == 0 ? EMPTY : new IntList(values));
+    }
+
+    /**
+     * Reads a list that was written by {@link #write}.
+     *
+     * @param source the source to read from
+     * @return the read list
+     */
+    public static IntList read(ByteSource source) {
+        int[] values = new int[source.readLength(4)];
+        for (int i = 0; i < values.length; i++)
+            values[i] = source.readInt();
+        return (values.length == 0 ? EMPTY : new IntList(values));
+    }
+
+    public int size() {
+        return this.values.length;
+    }
+
+    public int get(int i) {
+        return this.values[i];
+    }
+
+    /**
+     * @param value the value to look for
+     * @return whether the list contains the value
+     */
+    public boolean contains(int value) {
+        return Arrays.binarySearch(this.sorted, value) >= 0;
+    }
+
+    /**
+     * @return a copy of the values, in the order of the list
+     */
+    public int[] toArray() {
+        return this.values.clone();
+    }
+
+    /**
+     * @return a json array of the values
+     */
+    public JsonArray toJson() {
+        JsonArray array = new JsonArray(this.values.length);
+        for (int value : this.values)
+            array.add(value);
+        return array;
+    }
+
+    /**
+     * Writes the size of the list as a {@code VarInt} followed by the values.
+     *
+     * @param sink the sink to write to
+     */
+    public void write(ByteSink sink) {
+        sink.writeVarInt(this.values.length);
+        for (int value : this.values)
+            sink.writeInt(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || obj instanceof IntList list && Arrays.equals(this.values, list.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.values);
+    }
+}
@@ -0,0 +1,143 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * StringIntMap is an immutable map from strings to integers. The keys are interned and held in an open addressing hash table, and the values are
+ * held in an {@code int} array, so {@link #getInt} doesn't box.
+ */
+public final class StringIntMap extends StringKeyTable {
+    /**
+     * The empty map.
+     */
+    public static final StringIntMap EMPTY = new StringIntMap(new String[0], new int[0]);
+    private final int[] values;
+
+    private StringIntMap(String[] keys, int[] values) {
+        super(keys);
+        this.values = values;
+    }
+
+    /**
+     * @param keys   the keys of the map, they must be unique
+     * @param values the values of the keys, in the same order
+     * @return a map of the given keys and values, the arrays are copied
+     */
+    public static StringIntMap of(String[] keys, int[] values) {
+        if (keys.length != values.length)
+            throw new IllegalArgumentException("Mismatching number of keys and values!");
+        return (keys.length == 0 ? EMPTY : new StringIntMap(keys.clone(), values.clone()));
+    }
+
+    /**
+     * @param map the keys and values of the map
+     * @return a map of the same keys and values, in the iteration order of the given map
+     */
+    public static StringIntMap of(Map<String, Integer> map) {
+        String[] keys = new String[map.size()];
+        int[] values = new int[map.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return (keys.length == 0 ? EMPTY : new StringIntMap(keys, values));
+    }
+
+    /**
+     * Reads a map that was written by {@link #toJson}.
+     *
+     * @param json a json object of integers
+     * @return a map of the members of the object
+     */
+    public static StringIntMap fromJson(JsonElement json) {
+        JsonObject object = json.getAsJsonObject();
+        String[] keys = new String[object.size()];
+        int[] values = new int[object.size()];
+        int i = 0;
+        for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+            keys[i] = member.getKey();
+            values[i++] = member.getValue().getAsInt();
+        }
+        return (keys.length == 0 ? EMPTY : new StringIntMap(keys, values));
+    }
+
+    /**
+     * Reads a map that was written by {@link #write}.
+     *
+     * @param source the source to read from
+     * @return the read map
+     */
+    public static StringIntMap read(ByteSource source) {
+        int size = source.readLength(5);
+        String[] keys = new String[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = source.readUtf();
+            values[i] = source.readInt();
+        }
+        return (size == 0 ? EMPTY : new StringIntMap(keys, values));
+    }
+
+    /**
+     * @param key          the key to look for
+     * @param defaultValue the value to return if the map doesn't contain the key
+     * @return the value of the key
+     */
+    public int getInt(String key, int defaultValue) {
+        int i = indexOf(key);
+        return (i < 0 ? defaultValue : this.values[i]);
+    }
+
+    /**
+     * @param i the index of the value, in the insertion order
+     * @return the value at the index
+     */
+    public int valueAt(int i) {
+        return this.values[i];
+    }
+
+    /**
+     * @return a json object of the keys and values
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        for (int i = 0; i < this.keys.length; i++)
+            json.addProperty(this.keys[i], this.values[i]);
+        return json;
+    }
+
+    /**
+     * Writes the size of the map as a {@code VarInt} followed by the keys and values.
+     *
+     * @param sink the sink to write to
+     */
+    public void write(ByteSink sink) {
+        sink.writeVarInt(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++) {
+            sink.writeUtf(this.keys[i]);
+            sink.writeInt(this.values[i]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || obj instanceof StringIntMap map && Arrays.equals(this.keys, map.keys) && Arrays.equals(this.values, map.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.keys) + Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.keys.length; i++)
+            builder.append(i == 0 ? "" : ", ").append(this.keys[i]).append('=').append(this.values[i]);
+        return builder.append('}').toString();
+    }
+}
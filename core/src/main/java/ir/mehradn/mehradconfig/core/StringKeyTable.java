@@ -0,0 +1,69 @@
+package ir.mehradn.mehradconfig.core;
+
+/**
+ * The keys of the string keyed maps, with an open addressing hash table of their indexes. The keys are interned and kept in their insertion
+ * order, the values are kept by the subclasses in arrays of the same order.
+ */
+abstract class StringKeyTable {
+    final String[] keys;
+    private final int[] slots;
+    private final int mask;
+
+    StringKeyTable(String[] keys) {
+        this.keys = keys;
+        int capacity = Integer.highestOneBit(Math.max(keys.length * 2, 2) - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keys[i].intern();
+            int slot = hash(keys[i]) & this.mask;
+            while (this.slots[slot] != 0) {
+                if (keys[this.slots[slot] - 1] == keys[i])
+                    throw new IllegalArgumentException("Duplicate key " + keys[i] + "!");
+                slot = (slot + 1) & this.mask;
+            }
+            this.slots[slot] = i + 1;
+        }
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * @param i the index of the key, in the insertion order
+     * @return the key at the index
+     */
+    public String keyAt(int i) {
+        return this.keys[i];
+    }
+
+    /**
+     * @param key the key to look for
+     * @return whether the map contains the key
+     */
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key the key to look for
+     * @return the index of the key, or {@code -1} if the map doesn't contain it
+     */
+    public int indexOf(String key) {
+        int slot = hash(key) & this.mask;
+        int index;
+        while ((index = this.slots[slot]) != 0) {
+            String k = this.keys[index - 1];
+            if (k == key || k.equals(key))
+                return index - 1;
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
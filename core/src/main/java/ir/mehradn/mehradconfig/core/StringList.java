@@ -0,0 +1,127 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * StringList is an immutable list of strings backed by a {@code String} array. The strings are interned, so the same strings in many lists or
+ * configs share their memory. A hash set of the values is made when a big list is created, so {@link #contains} doesn't scan the list.
+ */
+public final class StringList {
+    /**
+     * The empty list.
+     */
+    public static final StringList EMPTY = new StringList(new String[0]);
+    private static final int HASH_THRESHOLD = 8;
+    private final String[] values;
+    private final Set<String> lookup;
+
+    private StringList(String[] values) {
+        for (int i = 0; i < values.length; i++)
+            values[i] = values[i].intern();
+        this.values = values;
+        this.lookup = (values.length > HASH_THRESHOLD ? new HashSet<>(Arrays.asList(values)) : null);
+    }
+
+    /**
+     * @param values the values of the list, the array is copied
+     * @return a list of the given values
+     */
+    public static StringList of(String... values) {
+        return (values.length == 0 ? EMPTY : new StringList(values.clone()));
+    }
+
+    /**
+     * Reads a list that was written by {@link #toJson}.
+     *
+     * @param json a json array of strings
+     * @return a list of the values of the array
+     */
+    public static StringList fromJson(JsonElement json) {
+        JsonArray array = json.getAsJsonArray();
+        String[] values = new String[array.size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = array.get(i).getAsString();
+        return (values.length == 0 ? EMPTY : new StringList(values));
+    }
+
+    /**
+     * Reads a list that was written by {@link #write}.
+     *
+     * @param source the source to read from
+     * @return the read list
+     */
+    public static StringList read(ByteSource source) {
+        String[] values = new String[source.readLength(1)];
+        for (int i = 0; i < values.length; i++)
+            values[i] = source.readUtf();
+        return (values.length == 0 ? EMPTY : new StringList(values));
+    }
+
+    public int size() {
+        return this.values.length;
+    }
+
+    public String get(int i) {
+        return this.values[i];
+    }
+
+    /**
+     * @param value the value to look for
+     * @return whether the list contains the value
+     */
+    public boolean contains(String value) {
+        if (this.lookup != null)
+            return this.lookup.contains(value);
+        for (String s : this.values)
+            if (s.equals(value))
+                return true;
+        return false;
+    }
+
+    /**
+     * @return a copy of the values, in the order of the list
+     */
+    public String[] toArray() {
+        return this.values.clone();
+    }
+
+    /**
+     * @return a json array of the values
+     */
+    public JsonArray toJson() {
+        JsonArray array = new JsonArray(this.values.length);
+        for (String value : this.values)
+            array.add(value);
+        return array;
+    }
+
+    /**
+     * Writes the size of the list as a {@code VarInt} followed by the values.
+     *
+     * @param sink the sink to write to
+     */
+    public void write(ByteSink sink) {
+        sink.writeVarInt(this.values.length);
+        for (String value : this.values)
+            sink.writeUtf(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || obj instanceof StringList list && Arrays.equals(this.values, list.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.values);
+    }
+}
@@ -0,0 +1,29 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonElement;
+
+/**
+ * ValueCodec encodes config values of one type to json and to bytes.
+ *
+ * @param <T> the type of the config value
+ * @see ValueCodecs
+ */
+public interface ValueCodec <T> {
+    JsonElement toJson(T value);
+
+    T fromJson(JsonElement json);
+
+    void write(ByteSink sink, T value);
+
+    T read(ByteSource source);
+
+    /**
+     * Gets a value and returns a trimmed value that is valid for this codec. By default, returns the exact same value.
+     *
+     * @param value the value to be trimmed
+     * @return the trimmed value
+     */
+    default T trim(T value) {
+        return value;
+    }
+}
@@ -0,0 +1,249 @@
+package ir.mehradn.mehradconfig.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The codecs of the built-in config value types. The built-in config entries use the same codecs, so their encodings are the same.
+ */
+public final class ValueCodecs {
+    /**
+     * Booleans, as json booleans and single bytes.
+     */
+    public static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<>() {
+        @Override
+        public JsonElement toJson(Boolean value) {
+            return new JsonPrimitive(value);
+        }
+
+        @Override
+        public Boolean fromJson(JsonElement json) {
+            return json.getAsBoolean();
+        }
+
+        @Override
+        public void write(ByteSink sink, Boolean value) {
+            sink.writeBoolean(value);
+        }
+
+        @Override
+        public Boolean read(ByteSource source) {
+            return source.readBoolean();
+        }
+    };
+
+    /**
+     * Integer lists, as json arrays and length-prefixed 4 byte integers.
+     */
+    public static final ValueCodec<IntList> INT_LIST = new ValueCodec<>() {
+        @Override
+        public JsonElement toJson(IntList value) {
+            return value.toJson();
+        }
+
+        @Override
+        public IntList fromJson(JsonElement json) {
+            return IntList.fromJson(json);
+        }
+
+        @Override
+        public void write(ByteSink sink, IntList value) {
+            value.write(sink);
+        }
+
+        @Override
+        public IntList read(ByteSource source) {
+            return IntList.read(source);
+        }
+    };
+    /**
+     * String lists, as json arrays and length-prefixed strings.
+     */
+    public static final ValueCodec<StringList> STRING_LIST = new ValueCodec<>() {
+        @Override
+        public JsonElement toJson(StringList value) {
+            return value.toJson();
+        }
+
+        @Override
+        public StringList fromJson(JsonElement json) {
+            return StringList.fromJson(json);
+        }
+
+        @Override
+        public void write(ByteSink sink, StringList value) {
+            value.write(sink);
+        }
+
+        @Override
+        public StringList read(ByteSource source) {
+            return StringList.read(source);
+        }
+    };
+    /**
+     * String to integer maps, as json objects and length-prefixed keys and 4 byte integers.
+     */
+    public static final ValueCodec<StringIntMap> STRING_INT_MAP = new ValueCodec<>() {
+        @Override
+        public JsonElement toJson(StringIntMap value) {
+            return value.toJson();
+        }
+
+        @Override
+        public StringIntMap fromJson(JsonElement json) {
+            return StringIntMap.fromJson(json);
+        }
+
+        @Override
+        public void write(ByteSink sink, StringIntMap value) {
+            value.write(sink);
+        }
+
+        @Override
+        public StringIntMap read(ByteSource source) {
+            return StringIntMap.read(source);
+        }
+    };
+    /**
+     * String to double maps, as json objects and length-prefixed keys and 8 byte doubles.
+     */
+    public static final ValueCodec<StringDoubleMap> STRING_DOUBLE_MAP = new ValueCodec<>() {
+        @Override
+        public JsonElement toJson(StringDoubleMap value) {
+            return value.toJson();
+        }
+
+        @Override
+        public StringDoubleMap fromJson(JsonElement json) {
+            return StringDoubleMap.fromJson(json);
+        }
+
+        @Override
+        public void write(ByteSink sink, StringDoubleMap value) {
+            value.write(sink);
+        }
+
+        @Override
+        public StringDoubleMap read(ByteSource source) {
+            return StringDoubleMap.read(source);
+        }
+    };
+
+    private ValueCodecs() { }
+
+    /**
+     * @param min the minimum value allowed
+     * @param max the maximum value allowed
+     * @return a codec for integers between {@code min} and {@code max}, as json numbers and 4 byte integers
+     */
+    public static ValueCodec<Integer> intRange(int min, int max) {
+        if (max < min)
+            throw new IllegalArgumentException("Min cannot be more than max!");
+        return new IntRangeCodec(min, max);
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param <T>       the type of the enum
+     * @return a codec for the constants of the given enum, as json strings of their names and {@code VarInt}s of their ordinals
+     */
+    public static <T extends Enum<T>> ValueCodec<T> enumCodec(Class<T> enumClass) {
+        return new EnumCodec<>(EnumTable.of(enumClass));
+    }
+
+    /**
+     * @param enumClass the class object of the enum
+     * @param <T>       the type of the enum
+     * @return a codec for selections of the constants of the given enum, as json arrays of their names and bitmasks
+     */
+    public static <T extends Enum<T>> ValueCodec<EnumSelection<T>> enumSetCodec(Class<T> enumClass) {
+        return new EnumSetCodec<>(enumClass);
+    }
+
+    /**
+     * Clamps the value between min and max.
+     *
+     * @param value the value to clamp
+     * @param min   the minimum value allowed
+     * @param max   the maximum value allowed
+     * @return the clamped value
+     */
+    public static int clamp(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    private record IntRangeCodec(int min, int max) implements ValueCodec<Integer> {
+        @Override
+        public JsonElement toJson(Integer value) {
+            return new JsonPrimitive(value);
+        }
+
+        @Override
+        public Integer fromJson(JsonElement json) {
+            return json.getAsInt();
+        }
+
+        @Override
+        public void write(ByteSink sink, Integer value) {
+            sink.writeInt(value);
+        }
+
+        @Override
+        public Integer read(ByteSource source) {
+            return source.readInt();
+        }
+
+        @Override
+        public Integer trim(Integer value) {
+            return clamp(value, this.min, this.max);
+        }
+    }
+
+    private record EnumCodec <T extends Enum<T>>(EnumTable<T> table) implements ValueCodec<T> {
+        @Override
+        public JsonElement toJson(T value) {
+            return new JsonPrimitive(this.table.nameOf(value));
+        }
+
+        @Override
+        public T fromJson(JsonElement json) {
+            T value = this.table.byName(json.getAsString());
+            if (value == null)
+                throw new JsonParseException("Unknown constant " + json.getAsString() + " of " + this.table.enumClass().getName() + "!");
+            return value;
+        }
+
+        @Override
+        public void write(ByteSink sink, T value) {
+            sink.writeVarInt(value.ordinal());
+        }
+
+        @Override
+        public T read(ByteSource source) {
+            return this.table.get(source.readVarInt());
+        }
+    }
+
+    private record EnumSetCodec <T extends Enum<T>>(Class<T> enumClass) implements ValueCodec<EnumSelection<T>> {
+        @Override
+        public JsonElement toJson(EnumSelection<T> value) {
+            return value.toJson();
+        }
+
+        @Override
+        public EnumSelection<T> fromJson(JsonElement json) {
+            return EnumSelection.fromJson(this.enumClass, json);
+        }
+
+        @Override
+        public void write(ByteSink sink, EnumSelection<T> value) {
+            value.write(sink);
+        }
+
+        @Override
+        public EnumSelection<T> read(ByteSource source) {
+            return EnumSelection.read(this.enumClass, source);
+        }
+    }
+}
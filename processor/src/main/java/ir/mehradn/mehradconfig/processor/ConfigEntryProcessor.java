@@ -0,0 +1,231 @@
+package ir.mehradn.mehradconfig.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code {ConfigClass}Entries} companion class for each config class with {@code @ConfigEntryField} fields, with the entry list, a
+ * name to index table and a {@code createNewInstance}. The json and buffer methods are left to the codec that {@code MehradConfig} compiles.
+ */
+@SupportedAnnotationTypes(ConfigEntryProcessor.CONFIG_ENTRY_FIELD)
+public class ConfigEntryProcessor extends AbstractProcessor {
+    static final String CONFIG_ENTRY_FIELD = "ir.mehradn.mehradconfig.ConfigEntryField";
+    private static final String MEHRAD_CONFIG = "ir.mehradn.mehradconfig.MehradConfig";
+    private static final String CONFIG_ENTRY = "ir.mehradn.mehradconfig.entry.ConfigEntry";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(CONFIG_ENTRY_FIELD);
+        if (annotation == null)
+            return false;
+
+        Set<TypeElement> configs = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+            if (element.getKind() == ElementKind.FIELD)
+                configs.add((TypeElement)element.getEnclosingElement());
+
+        for (TypeElement config : configs) {
+            List<VariableElement> fields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(config.getEnclosedElements()))
+                if (getAnnotation(field) != null)
+                    fields.add(field);
+            if (validate(config, fields)) {
+                try {
+                    generate(config, fields);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate the entries class: " + e, config);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean validate(TypeElement config, List<VariableElement> fields) {
+        Messager messager = processingEnv.getMessager();
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement mehradConfigElement = elements.getTypeElement(MEHRAD_CONFIG);
+        TypeElement configEntryElement = elements.getTypeElement(CONFIG_ENTRY);
+        if (mehradConfigElement == null || configEntryElement == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "MehradConfig is not on the classpath", config);
+            return false;
+        }
+        TypeMirror mehradConfig = types.erasure(mehradConfigElement.asType());
+        TypeMirror configEntry = types.erasure(configEntryElement.asType());
+        boolean valid = true;
+
+        if (!types.isSubtype(types.erasure(config.asType()), mehradConfig)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@ConfigEntryField can only be used in subclasses of MehradConfig", config);
+            valid = false;
+        }
+        if (config.getNestingKind() != NestingKind.TOP_LEVEL && !config.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Configs with @ConfigEntryField must be top-level or static classes", config);
+            valid = false;
+        }
+        if (!config.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Configs with @ConfigEntryField must not be generic", config);
+            valid = false;
+        }
+
+        Set<String> names = new HashSet<>();
+        for (VariableElement field : fields) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@ConfigEntryField fields must not be private or static", field);
+                valid = false;
+            }
+            if (!modifiers.contains(Modifier.FINAL))
+                messager.printMessage(Diagnostic.Kind.WARNING, "@ConfigEntryField fields should be final", field);
+            if (!types.isSubtype(types.erasure(field.asType()), configEntry)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@ConfigEntryField fields must be config entries", field);
+                valid = false;
+            }
+            if (!names.add(entryName(field))) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Duplicate entry name \"" + entryName(field) + "\"", field);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private void generate(TypeElement config, List<VariableElement> fields) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(config);
+        String packageName = packageElement.getQualifiedName().toString();
+        String configName = config.getQualifiedName().toString();
+        String className = companionName(config);
+        boolean hasConstructor = hasNoArgConstructor(config);
+        int size = fields.size();
+
+        String qualifiedName = (packageName.isEmpty() ? className : packageName + "." + className);
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, config).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Generated from the {@code @ConfigEntryField} fields of {@link " + configName + "}. Do not edit.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + ConfigEntryProcessor.class.getName() + "\")");
+            out.println("public final class " + className + " {");
+            out.println("    /**");
+            out.println("     * The names of the entries, in the order of {@link #entries}.");
+            out.println("     */");
+            out.print("    public static final java.util.List<String> NAMES = java.util.List.of(");
+            for (int i = 0; i < size; i++)
+                out.print((i == 0 ? "" : ", ") + "\"" + escape(entryName(fields.get(i))) + "\"");
+            out.println(");");
+            if (hasConstructor) {
+                out.println("    /**");
+                out.println("     * A constructor reference of the config class.");
+                out.println("     */");
+                out.println("    public static final java.util.function.Supplier<" + configName + "> FACTORY = " + configName + "::new;");
+            }
+            out.println();
+            out.println("    private " + className + "() { }");
+
+            out.println();
+            out.println("    /**");
+            out.println("     * @return the index of the entry with the given name, or {@code -1} if there is no such entry");
+            out.println("     */");
+            out.println("    public static int indexOf(String name) {");
+            out.println("        switch (name) {");
+            for (int i = 0; i < size; i++)
+                out.println("            case \"" + escape(entryName(fields.get(i))) + "\": return " + i + ";");
+            out.println("            default: return -1;");
+            out.println("        }");
+            out.println("    }");
+
+            out.println();
+            out.println("    /**");
+            out.println("     * @return an immutable list of the entries of the given config, to be returned by {@code getEntries}");
+            out.println("     */");
+            out.println("    public static java.util.List<ir.mehradn.mehradconfig.entry.ConfigEntry<?>> entries(" + configName + " config) {");
+            out.print("        return java.util.List.of(");
+            for (int i = 0; i < size; i++)
+                out.print((i == 0 ? "" : ", ") + "config." + fields.get(i).getSimpleName());
+            out.println(");");
+            out.println("    }");
+
+            if (hasConstructor) {
+                out.println();
+                out.println("    public static " + configName + " createNewInstance() {");
+                out.println("        return new " + configName + "();");
+                out.println("    }");
+            }
+
+            out.println("}");
+        }
+    }
+
+    private boolean hasNoArgConstructor(TypeElement config) {
+        if (config.getModifiers().contains(Modifier.ABSTRACT))
+            return false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(config.getEnclosedElements()))
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE))
+                return true;
+        return false;
+    }
+
+    private AnnotationMirror getAnnotation(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+            if (((TypeElement)mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONFIG_ENTRY_FIELD))
+                return mirror;
+        return null;
+    }
+
+    private String entryName(VariableElement field) {
+        AnnotationMirror mirror = getAnnotation(field);
+        if (mirror != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("value")) {
+                    String name = (String)value.getValue().getValue();
+                    if (!name.isEmpty())
+                        return name;
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private static String companionName(TypeElement config) {
+        StringBuilder name = new StringBuilder(config.getSimpleName());
+        for (Element e = config.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement())
+            name.insert(0, e.getSimpleName() + "_");
+        return name.append("Entries").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
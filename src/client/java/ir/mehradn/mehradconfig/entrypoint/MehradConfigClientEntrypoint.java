@@ -0,0 +1,14 @@
+package ir.mehradn.mehradconfig.entrypoint;
+
+import ir.mehradn.mehradconfig.network.ConfigSyncClient;
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+@Environment(EnvType.CLIENT)
+public class MehradConfigClientEntrypoint implements ClientModInitializer {
+    @Override
+    public void onInitializeClient() {
+        ConfigSyncClient.init();
+    }
+}
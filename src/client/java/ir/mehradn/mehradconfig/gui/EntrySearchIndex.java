@@ -0,0 +1,134 @@
+package ir.mehradn.mehradconfig.gui;
+
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * EntrySearchIndex is a trigram index over the resolved title, name and description of config entries. It is built once for a language, and
+ * answers searches by intersecting the posting lists of the trigrams in the query, instead of scanning the texts of all the entries.
+ * <p>
+ * Searches that extend the previous search (like the user typing one more letter) only check the previous results.
+ */
+@Environment(EnvType.CLIENT)
+public class EntrySearchIndex {
+    private static final int[] NO_ENTRIES = new int[0];
+    /**
+     * The language code that the texts of this index were resolved in.
+     */
+    public final String language;
+    private final String[] texts;
+    private final int[] allEntries;
+    private final Long2ObjectMap<int[]> trigrams;
+    private String lastQuery = null;
+    private int[] lastResult = null;
+
+    /**
+     * Resolves the texts of the given entries and indexes them.
+     *
+     * @param language the language code that the translations will be resolved in, usually the selected language
+     * @param modId    the modId that provides the translations
+     * @param entries  the config entries to index
+     */
+    public EntrySearchIndex(String language, String modId, List<ConfigEntry<?>> entries) {
+        this.language = language;
+        this.texts = new String[entries.size()];
+        this.allEntries = new int[entries.size()];
+
+        Long2ObjectMap<IntArrayList> postings = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ConfigEntry<?> entry = entries.get(i);
+            String text = normalize(entry.getTranslatedTitle(modId).getString() + "\n" + entry.getName() + "\n" +
+                                    entry.getTranslatedDescription(modId).getString());
+            this.texts[i] = text;
+            this.allEntries[i] = i;
+            for (int j = 0; j + 3 <= text.length(); j++) {
+                IntArrayList list = postings.computeIfAbsent(trigram(text, j), (k) -> new IntArrayList());
+                if (list.isEmpty() || list.getInt(list.size() - 1) != i)
+                    list.add(i);
+            }
+        }
+
+        this.trigrams = new Long2ObjectOpenHashMap<>(postings.size());
+        for (Long2ObjectMap.Entry<IntArrayList> posting : postings.long2ObjectEntrySet())
+            this.trigrams.put(posting.getLongKey(), posting.getValue().toIntArray());
+    }
+
+    /**
+     * Searches the index. The search is case-insensitive and an empty query matches all of the entries.
+     *
+     * @param query the text to search for
+     * @return the sorted indexes of the entries that contain the query in their title, name or description
+     */
+    public int[] search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty())
+            return this.allEntries;
+        if (normalized.equals(this.lastQuery))
+            return this.lastResult;
+
+        int[] candidates;
+        if (this.lastQuery != null && normalized.startsWith(this.lastQuery))
+            candidates = this.lastResult;
+        else if (normalized.length() >= 3)
+            candidates = trigramCandidates(normalized);
+        else
+            candidates = this.allEntries;
+
+        int[] result = new int[candidates.length];
+        int size = 0;
+        for (int i : candidates)
+            if (this.texts[i].contains(normalized))
+                result[size++] = i;
+
+        this.lastQuery = normalized;
+        this.lastResult = (size == result.length ? result : Arrays.copyOf(result, size));
+        return this.lastResult;
+    }
+
+    private int[] trigramCandidates(String query) {
+        int[] candidates = null;
+        for (int j = 0; j + 3 <= query.length(); j++) {
+            int[] posting = this.trigrams.get(trigram(query, j));
+            if (posting == null)
+                return NO_ENTRIES;
+            candidates = (candidates == null ? posting : intersect(candidates, posting));
+            if (candidates.length == 0)
+                return NO_ENTRIES;
+        }
+        return candidates;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long trigram(String text, int i) {
+        return ((long)text.charAt(i) << 32) | ((long)text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+}
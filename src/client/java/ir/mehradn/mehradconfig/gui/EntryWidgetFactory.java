@@ -1,13 +1,34 @@
 package ir.mehradn.mehradconfig.gui;
 
+import ir.mehradn.mehradconfig.core.EnumSelection;
+import ir.mehradn.mehradconfig.core.IntList;
+import ir.mehradn.mehradconfig.core.StringDoubleMap;
+import ir.mehradn.mehradconfig.core.StringIntMap;
+import ir.mehradn.mehradconfig.core.StringList;
 import ir.mehradn.mehradconfig.entry.BooleanEntry;
+import ir.mehradn.mehradconfig.entry.ComputedEntry;
 import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entry.DoubleEntry;
 import ir.mehradn.mehradconfig.entry.EnumEntry;
+import ir.mehradn.mehradconfig.entry.EnumSetEntry;
+import ir.mehradn.mehradconfig.entry.FloatEntry;
+import ir.mehradn.mehradconfig.entry.IdSet;
+import ir.mehradn.mehradconfig.entry.IntListEntry;
 import ir.mehradn.mehradconfig.entry.NumberEntry;
+import ir.mehradn.mehradconfig.entry.RegistrySetEntry;
+import ir.mehradn.mehradconfig.entry.StringDoubleMapEntry;
+import ir.mehradn.mehradconfig.entry.StringEntry;
+import ir.mehradn.mehradconfig.entry.StringIntMapEntry;
+import ir.mehradn.mehradconfig.entry.StringListEntry;
 import ir.mehradn.mehradconfig.gui.widget.BooleanWidget;
 import ir.mehradn.mehradconfig.gui.widget.ConfigEntryWidget;
+import ir.mehradn.mehradconfig.gui.widget.EnumSetWidget;
 import ir.mehradn.mehradconfig.gui.widget.EnumWidget;
+import ir.mehradn.mehradconfig.gui.widget.ListWidget;
+import ir.mehradn.mehradconfig.gui.widget.ReadOnlyWidget;
+import ir.mehradn.mehradconfig.gui.widget.SliderDecimalWidget;
 import ir.mehradn.mehradconfig.gui.widget.SliderNumberWidget;
+import ir.mehradn.mehradconfig.gui.widget.TextFieldWidget;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import java.util.HashMap;
@@ -60,7 +81,41 @@ public class EntryWidgetFactory {
             NumberEntry.NumberTypeInfo.ID,
             (x, y, w, h, typeInfo, entry, textProvider)
                 -> new SliderNumberWidget(x, y, w, h, typeInfo.min(), typeInfo.max(), entry, textProvider));
+        this.<Double, DoubleEntry.DoubleTypeInfo>addWidgetBuilder(
+            DoubleEntry.DoubleTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new SliderDecimalWidget<>(x, y, w, h, typeInfo.min(), typeInfo.max(), Double::valueOf, entry, textProvider));
+        this.<Float, FloatEntry.FloatTypeInfo>addWidgetBuilder(
+            FloatEntry.FloatTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new SliderDecimalWidget<>(x, y, w, h, typeInfo.min(), typeInfo.max(), (value) -> (float)value, entry, textProvider));
+        this.<String, StringEntry.StringTypeInfo>addWidgetBuilder(
+            StringEntry.StringTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new TextFieldWidget(x, y, w, h, typeInfo.maxLength(), entry, textProvider));
         addEnumBuilder();
+        addEnumSetBuilder();
+        this.<IntList, IntListEntry.IntListTypeInfo>addWidgetBuilder(
+            IntListEntry.IntListTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ListWidget<>(x, y, w, h, ListWidget.INT_LIST, entry, textProvider));
+        this.<StringList, StringListEntry.StringListTypeInfo>addWidgetBuilder(
+            StringListEntry.StringListTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ListWidget<>(x, y, w, h, ListWidget.STRING_LIST, entry, textProvider));
+        this.<IdSet, RegistrySetEntry.RegistrySetTypeInfo<?>>addWidgetBuilder(
+            RegistrySetEntry.RegistrySetTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ListWidget<>(x, y, w, h, ListWidget.ID_SET, entry, textProvider));
+        this.<StringIntMap, StringIntMapEntry.StringIntMapTypeInfo>addWidgetBuilder(
+            StringIntMapEntry.StringIntMapTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ListWidget<>(x, y, w, h, ListWidget.STRING_INT_MAP, entry, textProvider));
+        this.<StringDoubleMap, StringDoubleMapEntry.StringDoubleMapTypeInfo>addWidgetBuilder(
+            StringDoubleMapEntry.StringDoubleMapTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ListWidget<>(x, y, w, h, ListWidget.STRING_DOUBLE_MAP, entry, textProvider));
+        addComputedBuilder();
     }
 
     @SuppressWarnings("unchecked")
@@ -78,6 +133,20 @@ public class EntryWidgetFactory {
                 -> new EnumWidget<>(x, y, w, h, typeInfo.enumClass(), entry, textProvider));
     }
 
+    private <T> void addComputedBuilder() {
+        this.<T, ComputedEntry.ComputedTypeInfo<T>>addWidgetBuilder(
+            ComputedEntry.ComputedTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new ReadOnlyWidget<>(x, y, w, h, entry, textProvider));
+    }
+
+    private <E extends Enum<E>> void addEnumSetBuilder() {
+        this.<EnumSelection<E>, EnumSetEntry.EnumSetTypeInfo<E>>addWidgetBuilder(
+            EnumSetEntry.EnumSetTypeInfo.ID,
+            (x, y, w, h, typeInfo, entry, textProvider)
+                -> new EnumSetWidget<>(x, y, w, h, typeInfo.enumClass(), entry, textProvider));
+    }
+
     /**
      * WidgetBuilder is a functional interface for creating a {@link ConfigEntryWidget} from all the information that you should need.
      *
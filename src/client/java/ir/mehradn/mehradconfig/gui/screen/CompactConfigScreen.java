@@ -64,6 +64,11 @@ public class CompactConfigScreen extends MehradConfigScreen {
             return addTitle(entry, entry.getTranslatedValue(this.modId, value));
         }
 
+        @Override
+        public <T> Component getValue(ConfigEntry<T> entry, T value) {
+            return entry.getTranslatedValue(this.modId, value);
+        }
+
         private Component addTitle(ConfigEntry<?> entry, Component value) {
             return CommonComponents.optionNameValue(entry.getTranslatedTitle(this.modId), value);
         }
@@ -0,0 +1,112 @@
+package ir.mehradn.mehradconfig.gui.screen;
+
+import ir.mehradn.mehradconfig.core.EnumSelection;
+import ir.mehradn.mehradconfig.core.EnumTable;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.CommonComponents;
+import net.minecraft.network.chat.Component;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * EnumSetEditScreen is a gui for selecting the constants of enum set entries. The constants are shown as toggle buttons, one page at a time.
+ *
+ * @param <T> type of the enum
+ * @see ir.mehradn.mehradconfig.gui.widget.EnumSetWidget
+ */
+@Environment(EnvType.CLIENT)
+public class EnumSetEditScreen <T extends Enum<T>> extends Screen {
+    private final EnumTable<T> table;
+    private final Function<T, Component> constantText;
+    private final Consumer<EnumSelection<T>> onDone;
+    private final Screen parentScreen;
+    private EnumSelection<T> selection;
+    private int page = 0;
+
+    /**
+     * @param title        the title of the screen
+     * @param selection    the selected constants
+     * @param constantText gives the text of each constant
+     * @param onDone       called with the edited selection when the done button is pressed
+     * @param parentScreen the parent screen. The screen that opened this screen.
+     */
+    public EnumSetEditScreen(Component title, EnumSelection<T> selection, Function<T, Component> constantText,
+                             Consumer<EnumSelection<T>> onDone, Screen parentScreen) {
+        super(title);
+        this.table = EnumTable.of(selection.enumClass());
+        this.selection = selection;
+        this.constantText = constantText;
+        this.onDone = onDone;
+        this.parentScreen = parentScreen;
+    }
+
+    @Override
+    public void init() {
+        int pageSize = getPageSize();
+        this.page = Math.max(0, Math.min(this.page, getPageCount() - 1));
+
+        int start = this.page * pageSize;
+        for (int i = start; i < Math.min(start + pageSize, this.table.size()); i++) {
+            T constant = this.table.get(i);
+            addRenderableWidget(Button.builder(getMessage(constant), (btn) -> {
+                    this.selection = this.selection.with(constant, !this.selection.contains(constant));
+                    btn.setMessage(getMessage(constant));
+                })
+                .bounds(this.width / 2 - 112, 30 + (i - start) * 24, 224, 20)
+                .build());
+        }
+
+        int y = this.height - 27;
+        addRenderableWidget(Button.builder(Component.literal("<"), (btn) -> {
+                this.page--;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 - 154, y - 24, 20, 20)
+            .build()).active = this.page > 0;
+        addRenderableWidget(Button.builder(Component.literal(">"), (btn) -> {
+                this.page++;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 + 134, y - 24, 20, 20)
+            .build()).active = this.page < getPageCount() - 1;
+        addRenderableWidget(Button.builder(CommonComponents.GUI_DONE, (btn) -> {
+                this.onDone.accept(this.selection);
+                onClose();
+            })
+            .bounds(this.width / 2 + 4, y, 150, 20)
+            .build());
+        addRenderableWidget(Button.builder(CommonComponents.GUI_CANCEL, (btn) -> onClose())
+            .bounds(this.width / 2 - 154, y, 150, 20)
+            .build());
+    }
+
+    @Override
+    public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        renderBackground(guiGraphics);
+        guiGraphics.drawCenteredString(this.font, this.title, this.width / 2, 15, 0xFFFFFF);
+        guiGraphics.drawCenteredString(this.font, Component.translatable("mehrad-config.listScreen.page", this.page + 1, getPageCount()),
+            this.width / 2, this.height - 45, 0xFFFFFF);
+        super.render(guiGraphics, mouseX, mouseY, partialTick);
+    }
+
+    @Override
+    public void onClose() {
+        this.minecraft.setScreen(this.parentScreen);
+    }
+
+    private Component getMessage(T constant) {
+        return CommonComponents.optionNameValue(this.constantText.apply(constant), CommonComponents.optionStatus(this.selection.contains(constant)));
+    }
+
+    private int getPageSize() {
+        return Math.max(1, (this.height - 90) / 24);
+    }
+
+    private int getPageCount() {
+        return Math.max(1, (this.table.size() + getPageSize() - 1) / getPageSize());
+    }
+}
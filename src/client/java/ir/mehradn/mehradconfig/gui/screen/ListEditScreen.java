@@ -0,0 +1,141 @@
+package ir.mehradn.mehradconfig.gui.screen;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.CommonComponents;
+import net.minecraft.network.chat.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * ListEditScreen is a gui for editing the values of list entries. The values are shown as text boxes, one page at a time, so big lists only
+ * create the widgets of the visible page.
+ *
+ * @see ir.mehradn.mehradconfig.gui.widget.ListWidget
+ */
+@Environment(EnvType.CLIENT)
+public class ListEditScreen extends Screen {
+    private static final int INVALID_COLOR = 0xFF5555;
+    private static final int VALID_COLOR = 0xE0E0E0;
+    private final List<String> values;
+    private final Predicate<String> validator;
+    private final Consumer<List<String>> onDone;
+    private final Screen parentScreen;
+    private final List<EditBox> valueBoxes = new ArrayList<>();
+    private int page = 0;
+    private Button doneButton;
+
+    /**
+     * @param title        the title of the screen
+     * @param values       the values of the list as strings, the list is copied
+     * @param validator    checks whether a value can be converted back
+     * @param onDone       called with the edited values when the done button is pressed
+     * @param parentScreen the parent screen. The screen that opened this screen.
+     */
+    public ListEditScreen(Component title, List<String> values, Predicate<String> validator, Consumer<List<String>> onDone, Screen parentScreen) {
+        super(title);
+        this.values = new ArrayList<>(values);
+        this.validator = validator;
+        this.onDone = onDone;
+        this.parentScreen = parentScreen;
+    }
+
+    @Override
+    public void init() {
+        this.valueBoxes.clear();
+        int pageSize = getPageSize();
+        this.page = Math.max(0, Math.min(this.page, getPageCount() - 1));
+
+        int x = this.width / 2 - 112;
+        int start = this.page * pageSize;
+        for (int i = start; i < Math.min(start + pageSize, this.values.size()); i++) {
+            int index = i;
+            int y = 30 + (i - start) * 24;
+            EditBox box = addRenderableWidget(new EditBox(this.font, x, y, 200, 20, Component.literal(this.values.get(i))));
+            box.setMaxLength(Short.MAX_VALUE);
+            box.setValue(this.values.get(i));
+            box.setResponder((value) -> {
+                this.values.set(index, value);
+                box.setTextColor(this.validator.test(value) ? VALID_COLOR : INVALID_COLOR);
+                updateDoneButton();
+            });
+            box.setTextColor(this.validator.test(this.values.get(i)) ? VALID_COLOR : INVALID_COLOR);
+            this.valueBoxes.add(box);
+            addRenderableWidget(Button.builder(Component.literal("-"), (btn) -> {
+                    this.values.remove(index);
+                    rebuildWidgets();
+                })
+                .bounds(x + 204, y, 20, 20)
+                .tooltip(Tooltip.create(Component.translatable("mehrad-config.listScreen.remove")))
+                .build());
+        }
+
+        int y = this.height - 27;
+        addRenderableWidget(Button.builder(Component.literal("<"), (btn) -> {
+                this.page--;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 - 154, y - 24, 20, 20)
+            .build()).active = this.page > 0;
+        addRenderableWidget(Button.builder(Component.literal(">"), (btn) -> {
+                this.page++;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 + 134, y - 24, 20, 20)
+            .build()).active = this.page < getPageCount() - 1;
+        addRenderableWidget(Button.builder(Component.translatable("mehrad-config.listScreen.add"), (btn) -> {
+                this.values.add("");
+                this.page = getPageCount() - 1;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 - 50, y - 24, 100, 20)
+            .build());
+        this.doneButton = addRenderableWidget(Button.builder(CommonComponents.GUI_DONE, (btn) -> {
+                this.onDone.accept(this.values);
+                onClose();
+            })
+            .bounds(this.width / 2 + 4, y, 150, 20)
+            .build());
+        addRenderableWidget(Button.builder(CommonComponents.GUI_CANCEL, (btn) -> onClose())
+            .bounds(this.width / 2 - 154, y, 150, 20)
+            .build());
+        updateDoneButton();
+    }
+
+    @Override
+    public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        renderBackground(guiGraphics);
+        guiGraphics.drawCenteredString(this.font, this.title, this.width / 2, 15, 0xFFFFFF);
+        // Between the last row of values and the row of the arrows and the add button
+        guiGraphics.drawCenteredString(this.font, Component.translatable("mehrad-config.listScreen.page", this.page + 1, getPageCount()),
+            this.width / 2, this.height - 62, 0xFFFFFF);
+        super.render(guiGraphics, mouseX, mouseY, partialTick);
+    }
+
+    @Override
+    public void onClose() {
+        this.minecraft.setScreen(this.parentScreen);
+    }
+
+    private void updateDoneButton() {
+        boolean valid = true;
+        for (String value : this.values)
+            valid &= this.validator.test(value);
+        this.doneButton.active = valid;
+    }
+
+    private int getPageSize() {
+        return Math.max(1, (this.height - 90) / 24);
+    }
+
+    private int getPageCount() {
+        return Math.max(1, (this.values.size() + getPageSize() - 1) / getPageSize());
+    }
+}
@@ -3,12 +3,16 @@ package ir.mehradn.mehradconfig.gui.screen;
 import ir.mehradn.mehradconfig.MehradConfig;
 import ir.mehradn.mehradconfig.entry.ConfigEntry;
 import ir.mehradn.mehradconfig.gui.ConfigScreenBuilder;
+import ir.mehradn.mehradconfig.gui.EntrySearchIndex;
 import ir.mehradn.mehradconfig.gui.EntryWidgetFactory;
 import ir.mehradn.mehradconfig.gui.widget.ConfigEntryWidget;
+import ir.mehradn.mehradconfig.network.SyncedConfigEditor;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.AbstractWidget;
 import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.components.MultiLineTextWidget;
 import net.minecraft.client.gui.navigation.ScreenRectangle;
 import net.minecraft.client.gui.screens.Screen;
@@ -49,6 +53,14 @@ public abstract class MehradConfigScreen extends Screen {
      * A list of the config entry widgets being displayed. Initialized after {@link #init()}.
      */
     protected List<ConfigEntryWidget<?>> entryWidgets;
+    /**
+     * A list of the config entry widgets that match the current search, in the order they are displayed. Initialized after {@link #init()}.
+     */
+    protected List<ConfigEntryWidget<?>> visibleEntryWidgets;
+    /**
+     * An {@code EditBox} for searching the config entries. Initialized after {@link #init()}.
+     */
+    protected EditBox searchBox;
     /**
      * A {@code MultiLineTextWidget} for displaying the description of config entries. Initialized after {@link #init()}.
      */
@@ -61,6 +73,13 @@ public abstract class MehradConfigScreen extends Screen {
      * A Button for canceling the operation and closing the screen. Initialized after {@link #init()}.
      */
     protected Button cancelButton;
+    /**
+     * A Button for opening the {@link PresetsScreen presets} of the config. Initialized after {@link #init()}.
+     */
+    protected Button presetsButton;
+    private final Runnable presetListener = this::refreshEntryWidgets;
+    private EntrySearchIndex searchIndex = null;
+    private SyncedConfigEditor syncedEditor = null;
 
     /**
      * @param config             the config to display and modify
@@ -81,10 +100,13 @@ public abstract class MehradConfigScreen extends Screen {
 
     @Override
     public void init() {
-        int textY = this.properties.descriptionY().get(this.width, this.height, this.font);
-        int textWidth = this.properties.descriptionWidth().get(this.width, this.height, this.font);
-        this.hoverText = addRenderableWidget(new MultiLineTextWidget((this.width - textWidth) / 2, textY, Component.empty(), this.font)
-            .setMaxWidth(textWidth));
+        String query = (this.searchBox == null ? "" : this.searchBox.getValue());
+        this.searchBox = addRenderableWidget(new EditBox(this.font, 0, 0, 100, 20, Component.translatable("mehrad-config.searchBox.narration")));
+        this.searchBox.setHint(Component.translatable("mehrad-config.searchBox.hint"));
+        this.searchBox.setValue(query);
+        this.searchBox.setResponder(this::filterEntries);
+
+        this.hoverText = addRenderableWidget(new MultiLineTextWidget(0, 0, Component.empty(), this.font));
 
         this.entryWidgets = new ArrayList<>();
         List<ConfigEntry<?>> entries = this.config.getEntries();
@@ -96,18 +118,58 @@ public abstract class MehradConfigScreen extends Screen {
             this.entryWidgets.add(widget);
         }
 
+        this.cancelButton = addRenderableWidget(Button.builder(CommonComponents.GUI_CANCEL, (btn) -> onClose()).build());
+        this.saveButton = addRenderableWidget(Button.builder(CommonComponents.GUI_DONE, (btn) -> onSave()).build());
+        this.presetsButton = addRenderableWidget(Button.builder(Component.translatable("mehrad-config.presetsButton.message"),
+                (btn) -> this.minecraft.setScreen(new PresetsScreen(this.config, this)))
+            .size(100, 20)
+            .build());
+        // The widgets are kept when returning from the presets screen, so they are refreshed when a preset is applied
+        this.config.getPresets().removeListener(this.presetListener);
+        this.config.getPresets().addListener(this.presetListener);
+        // The edits of a config synced by the server are sent as they happen, and reverted if the screen is canceled
+        if (this.syncedEditor == null)
+            this.syncedEditor = SyncedConfigEditor.attach(this.config);
+
+        filterEntries(query);
+    }
+
+    /**
+     * Keeps the existing widgets, with their state, listeners and focus, and only moves them to fit the new size of the screen.
+     *
+     * @see #layoutWidgets
+     */
+    @Override
+    protected void repositionElements() {
+        layoutWidgets();
+    }
+
+    /**
+     * Recomputes the positions and sizes of the widgets created in {@link #init()} based on the {@link #properties screen properties}. Gets called
+     * at the end of {@code init()} and on every resize of the screen. Override it, and call the super method, to lay out any additional widgets.
+     */
+    protected void layoutWidgets() {
+        int textY = this.properties.descriptionY().get(this.width, this.height, this.font);
+        int textWidth = this.properties.descriptionWidth().get(this.width, this.height, this.font);
+        this.hoverText.setMaxWidth(textWidth);
+        this.hoverText.setX((this.width - textWidth) / 2);
+        this.hoverText.setY(textY);
+        this.searchBox.setPosition(this.width - this.searchBox.getWidth() - 5, 5);
+        this.presetsButton.setPosition(5, 5);
+
+        for (int i = 0; i < this.visibleEntryWidgets.size(); i++)
+            setBounds(this.visibleEntryWidgets.get(i).widget, getEntryWidgetBounds(i));
+
         int buttonWidth = this.properties.buttonWidth().get(this.width, this.height, this.font);
-        this.cancelButton = addRenderableWidget(Button.builder(CommonComponents.GUI_CANCEL, (btn) -> onClose())
-            .bounds(this.width / 2 - buttonWidth - 2, this.height - 35, buttonWidth, 20).build());
-        this.saveButton = addRenderableWidget(Button.builder(CommonComponents.GUI_DONE, (btn) -> onSave())
-            .bounds(this.width / 2 + 2, this.height - 35, buttonWidth, 20).build());
+        setBounds(this.cancelButton, new ScreenRectangle(this.width / 2 - buttonWidth - 2, this.height - 35, buttonWidth, 20));
+        setBounds(this.saveButton, new ScreenRectangle(this.width / 2 + 2, this.height - 35, buttonWidth, 20));
     }
 
     @Override
     public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
         Component description = Component.empty();
-        for (int i = 0; i < this.entryWidgets.size(); i++) {
-            ConfigEntryWidget<?> widget = this.entryWidgets.get(i);
+        for (int i = 0; i < this.visibleEntryWidgets.size(); i++) {
+            ConfigEntryWidget<?> widget = this.visibleEntryWidgets.get(i);
             ScreenRectangle hoverRegion = getEntryHoverRegion(i);
             if (hoverRegion.left() <= mouseX && mouseX <= hoverRegion.right() &&
                 hoverRegion.top() <= mouseY && mouseY <= hoverRegion.bottom())
@@ -122,11 +184,39 @@ public abstract class MehradConfigScreen extends Screen {
 
     @Override
     public void onClose() {
+        this.config.getPresets().removeListener(this.presetListener);
+        if (this.syncedEditor != null)
+            this.syncedEditor.revert();
         this.properties.onCancel().onClick(this.minecraft, this, this.parentScreen);
     }
 
     /**
-     * @param i the index of the config entry
+     * Shows only the entry widgets that match the given search query, and lays them out in place of the full list. Gets called each time the
+     * content of the {@link #searchBox} changes.
+     *
+     * @param query the text to search the titles, names and descriptions of the config entries for
+     * @see EntrySearchIndex
+     */
+    protected void filterEntries(String query) {
+        String language = this.minecraft.getLanguageManager().getSelected();
+        if (this.searchIndex == null || !this.searchIndex.language.equals(language))
+            this.searchIndex = new EntrySearchIndex(language, this.config.modId, this.config.getEntries());
+
+        int[] matches = this.searchIndex.search(query);
+        List<ConfigEntryWidget<?>> visible = new ArrayList<>(matches.length);
+        for (ConfigEntryWidget<?> widget : this.entryWidgets)
+            widget.widget.visible = false;
+        for (int i : matches) {
+            ConfigEntryWidget<?> widget = this.entryWidgets.get(i);
+            widget.widget.visible = true;
+            visible.add(widget);
+        }
+        this.visibleEntryWidgets = visible;
+        layoutWidgets();
+    }
+
+    /**
+     * @param i the index of the config entry among the displayed entries
      * @return the bounds of the entry widget
      */
     protected abstract ScreenRectangle getEntryWidgetBounds(int i);
@@ -137,12 +227,32 @@ public abstract class MehradConfigScreen extends Screen {
      * (For example if there is a 4 pixel gap between the entry widgets, this gaps should be covered by these regions as well)
      * Avoid having these regions overlapping, as it might cause some unknown behaviour.
      *
-     * @param i the index of the config entry
+     * @param i the index of the config entry among the displayed entries
      * @return the bounds of the entry widget hover region
      */
     protected abstract ScreenRectangle getEntryHoverRegion(int i);
 
+    /**
+     * Moves and resizes the given widget to the given bounds. The height of the widget is left untouched.
+     *
+     * @param widget the widget to move
+     * @param bounds the new bounds of the widget
+     */
+    protected static void setBounds(AbstractWidget widget, ScreenRectangle bounds) {
+        widget.setX(bounds.left());
+        widget.setY(bounds.top());
+        widget.setWidth(bounds.width());
+    }
+
     private void onSave() {
+        this.config.getPresets().removeListener(this.presetListener);
+        if (this.syncedEditor != null)
+            this.syncedEditor.detach();
         this.properties.onSave().onClick(this.minecraft, this, this.parentScreen);
     }
+
+    private void refreshEntryWidgets() {
+        for (ConfigEntryWidget<?> widget : this.entryWidgets)
+            widget.reportValueChange();
+    }
 }
@@ -0,0 +1,135 @@
+package ir.mehradn.mehradconfig.gui.screen;
+
+import ir.mehradn.mehradconfig.ConfigPresets;
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.CommonComponents;
+import net.minecraft.network.chat.Component;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * PresetsScreen is a gui for listing, applying, saving and removing the presets of a config, one page at a time. Applying a preset sets the
+ * values of the config that is being edited by the parent screen, and saving or removing one writes the presets file right away.
+ *
+ * @see ConfigPresets
+ */
+@Environment(EnvType.CLIENT)
+public class PresetsScreen extends Screen {
+    private final MehradConfig config;
+    private final ConfigPresets presets;
+    private final Screen parentScreen;
+    private EditBox nameBox;
+    private Button saveButton;
+    private int page = 0;
+
+    /**
+     * @param config       the config to apply the presets to and save the presets from
+     * @param parentScreen the parent screen. The screen that opened this screen.
+     */
+    public PresetsScreen(MehradConfig config, Screen parentScreen) {
+        super(Component.translatable("mehrad-config.presetsScreen.title"));
+        this.config = config;
+        this.presets = config.getPresets();
+        this.parentScreen = parentScreen;
+    }
+
+    @Override
+    public void init() {
+        List<String> names = this.presets.getNames();
+        int pageSize = getPageSize();
+        this.page = Math.max(0, Math.min(this.page, getPageCount(names) - 1));
+
+        int x = this.width / 2 - 112;
+        int start = this.page * pageSize;
+        for (int i = start; i < Math.min(start + pageSize, names.size()); i++) {
+            String name = names.get(i);
+            int y = 30 + (i - start) * 24;
+            Component message = (name.equals(this.presets.getActive()) ?
+                Component.translatable("mehrad-config.presetsScreen.active", name) : Component.literal(name));
+            addRenderableWidget(Button.builder(message, (btn) -> {
+                    this.presets.apply(name, this.config);
+                    onClose();
+                })
+                .bounds(x, y, 200, 20)
+                .tooltip(Tooltip.create(Component.translatable("mehrad-config.presetsScreen.apply")))
+                .build());
+            addRenderableWidget(Button.builder(Component.literal("-"), (btn) -> {
+                    this.presets.remove(name);
+                    savePresets();
+                    rebuildWidgets();
+                })
+                .bounds(x + 204, y, 20, 20)
+                .tooltip(Tooltip.create(Component.translatable("mehrad-config.listScreen.remove")))
+                .build());
+        }
+
+        int y = this.height - 27;
+        addRenderableWidget(Button.builder(Component.literal("<"), (btn) -> {
+                this.page--;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 - 154, y - 24, 20, 20)
+            .build()).active = this.page > 0;
+        addRenderableWidget(Button.builder(Component.literal(">"), (btn) -> {
+                this.page++;
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 + 134, y - 24, 20, 20)
+            .build()).active = this.page < getPageCount(names) - 1;
+        String name = (this.nameBox == null ? "" : this.nameBox.getValue());
+        this.nameBox = addRenderableWidget(new EditBox(this.font, this.width / 2 - 128, y - 24, 152, 20,
+            Component.translatable("mehrad-config.presetsScreen.name")));
+        this.nameBox.setHint(Component.translatable("mehrad-config.presetsScreen.name"));
+        this.nameBox.setValue(name);
+        this.nameBox.setResponder((value) -> this.saveButton.active = !value.isBlank());
+        this.saveButton = addRenderableWidget(Button.builder(Component.translatable("mehrad-config.presetsScreen.save"), (btn) -> {
+                this.presets.capture(this.nameBox.getValue().strip(), this.config);
+                savePresets();
+                this.nameBox.setValue("");
+                rebuildWidgets();
+            })
+            .bounds(this.width / 2 + 28, y - 24, 100, 20)
+            .tooltip(Tooltip.create(Component.translatable("mehrad-config.presetsScreen.save.tooltip")))
+            .build());
+        this.saveButton.active = !name.isBlank();
+        addRenderableWidget(Button.builder(CommonComponents.GUI_DONE, (btn) -> onClose())
+            .bounds(this.width / 2 - 100, y, 200, 20)
+            .build());
+    }
+
+    @Override
+    public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        renderBackground(guiGraphics);
+        guiGraphics.drawCenteredString(this.font, this.title, this.width / 2, 15, 0xFFFFFF);
+        super.render(guiGraphics, mouseX, mouseY, partialTick);
+    }
+
+    @Override
+    public void onClose() {
+        this.minecraft.setScreen(this.parentScreen);
+    }
+
+    private void savePresets() {
+        try {
+            this.presets.save();
+        } catch (IOException e) {
+            MehradConfigEntrypoint.LOGGER.error("Failed to save the presets for \"" + this.config.modId + "\"!", e);
+        }
+    }
+
+    private int getPageSize() {
+        return Math.max(1, (this.height - 90) / 24);
+    }
+
+    private int getPageCount(List<String> names) {
+        return Math.max(1, (names.size() + getPageSize() - 1) / getPageSize());
+    }
+}
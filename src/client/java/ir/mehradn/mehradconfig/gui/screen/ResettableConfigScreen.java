@@ -7,12 +7,15 @@ import ir.mehradn.mehradconfig.gui.EntryWidgetFactory;
 import ir.mehradn.mehradconfig.gui.widget.ConfigEntryWidget;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.components.AbstractWidget;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.navigation.ScreenRectangle;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ResettableConfigScreen is a config screen for option and resettable config entries. Each entry widget comes with a reset button.
@@ -27,6 +30,7 @@ public class ResettableConfigScreen extends MehradConfigScreen {
         (minecraft, thisScreen, parentScreen) -> minecraft.setScreen(parentScreen),
         (minecraft, thisScreen, parentScreen) -> minecraft.setScreen(parentScreen)
     );
+    private final List<Button> resetButtons = new ArrayList<>();
 
     /**
      * @param config             the config to display and modify
@@ -41,20 +45,28 @@ public class ResettableConfigScreen extends MehradConfigScreen {
 
     @Override
     public void init() {
+        this.resetButtons.clear();
         super.init();
+        Tooltip tooltip = Tooltip.create(Component.translatable("mehrad-config.resetButton.tooltip"));
         for (ConfigEntryWidget<?> widget : this.entryWidgets) {
-            int x = widget.widget.getX() + this.properties.widgetWidth().get(this.width, this.height, this.font) + 4;
-            int y = widget.widget.getY();
             Button resetButton = addRenderableWidget(Button.builder(Component.translatable("mehrad-config.resetButton.message"), (btn) -> {
                     widget.entry.reset();
                     widget.reportValueChange();
                 })
-                .bounds(x, y, 50, 20)
-                .tooltip(Tooltip.create(Component.translatable("mehrad-config.resetButton.tooltip")))
+                .size(50, 20)
+                .tooltip(tooltip)
                 .build());
             resetButton.active = !widget.entry.isDefault();
             widget.onValueChange((entry) -> resetButton.active = !entry.isDefault());
+            this.resetButtons.add(resetButton);
         }
+        layoutResetButtons();
+    }
+
+    @Override
+    protected void layoutWidgets() {
+        super.layoutWidgets();
+        layoutResetButtons();
     }
 
     @Override
@@ -72,6 +84,16 @@ public class ResettableConfigScreen extends MehradConfigScreen {
         return new ScreenRectangle(bounds.left(), bounds.top(), bounds.width() + 54, bounds.height() + 4);
     }
 
+    private void layoutResetButtons() {
+        int widgetWidth = this.properties.widgetWidth().get(this.width, this.height, this.font);
+        for (int i = 0; i < this.resetButtons.size(); i++) {
+            AbstractWidget widget = this.entryWidgets.get(i).widget;
+            Button resetButton = this.resetButtons.get(i);
+            resetButton.visible = widget.visible;
+            resetButton.setPosition(widget.getX() + widgetWidth + 4, widget.getY());
+        }
+    }
+
     @Environment(EnvType.CLIENT)
     public record DefaultValueTextProvider(String modId) implements ConfigEntryWidget.TextProvider {
         @Override
@@ -84,6 +106,11 @@ public class ResettableConfigScreen extends MehradConfigScreen {
             return wrapValueAndAddTitle(entry, entry.getTranslatedValue(this.modId, value));
         }
 
+        @Override
+        public <T> Component getValue(ConfigEntry<T> entry, T value) {
+            return entry.getTranslatedValue(this.modId, value);
+        }
+
         private Component wrapValueAndAddTitle(ConfigEntry<?> entry, Component value) {
             Component wrapped;
             if (!entry.shouldWrite())
@@ -85,5 +85,14 @@ public abstract class ConfigEntryWidget <T> {
          * @see ConfigEntry#getTranslatedValue(String, Object)
          */
         <T> Component get(ConfigEntry<T> entry, T value);
+
+        /**
+         * The returned text should be only the given value, without the title of the entry.
+         *
+         * @see ConfigEntry#getTranslatedValue(String, Object)
+         */
+        default <T> Component getValue(ConfigEntry<T> entry, T value) {
+            return get(entry, value);
+        }
     }
 }
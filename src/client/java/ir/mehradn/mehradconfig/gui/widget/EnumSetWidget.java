@@ -0,0 +1,68 @@
+package ir.mehradn.mehradconfig.gui.widget;
+
+import ir.mehradn.mehradconfig.core.EnumSelection;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.gui.screen.EnumSetEditScreen;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.components.AbstractButton;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+
+/**
+ * EnumSetWidget is a widget for displaying enum set config entries in gui. Pressing it opens a {@link EnumSetEditScreen} for selecting the
+ * constants.
+ *
+ * @param <T> type of the enum
+ */
+@Environment(EnvType.CLIENT)
+public class EnumSetWidget <T extends Enum<T>> extends ConfigEntryWidget<EnumSelection<T>> {
+    /**
+     * @param enumClass    the class object of the enum
+     * @param entry        the config entry that will get updated by this widget
+     * @param textProvider a text provider for setting the message of the config entry widget
+     */
+    public EnumSetWidget(int x, int y, int width, int height,
+                         Class<T> enumClass, ConfigEntry<EnumSelection<T>> entry, TextProvider textProvider) {
+        super(entry, textProvider, new Widget<>(x, y, width, height, enumClass, entry, textProvider));
+        ((Widget<?>)this.widget).setReport(this::reportValueChange);
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static class Widget <T extends Enum<T>> extends AbstractButton {
+        private final Class<T> enumClass;
+        private final ConfigEntry<EnumSelection<T>> entry;
+        private final TextProvider textProvider;
+        private Runnable report;
+
+        public Widget(int x, int y, int width, int height,
+                      Class<T> enumClass, ConfigEntry<EnumSelection<T>> entry, TextProvider textProvider) {
+            super(x, y, width, height, textProvider.get(entry));
+            this.enumClass = enumClass;
+            this.entry = entry;
+            this.textProvider = textProvider;
+        }
+
+        public void setReport(Runnable report) {
+            this.report = report;
+        }
+
+        @Override
+        public void onPress() {
+            Minecraft minecraft = Minecraft.getInstance();
+            minecraft.setScreen(new EnumSetEditScreen<>(this.textProvider.get(this.entry), this.entry.get(),
+                (constant) -> this.textProvider.getValue(this.entry, EnumSelection.of(this.enumClass, constant)), this::setSelection,
+                minecraft.screen));
+        }
+
+        private void setSelection(EnumSelection<T> selection) {
+            this.entry.set(selection);
+            this.report.run();
+        }
+
+        @Override
+        protected void updateWidgetNarration(NarrationElementOutput narrationElementOutput) {
+            defaultButtonNarrationText(narrationElementOutput);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ir.mehradn.mehradconfig.gui.widget;
 
+import ir.mehradn.mehradconfig.core.EnumTable;
 import ir.mehradn.mehradconfig.entry.ConfigEntry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -28,7 +29,7 @@ public class EnumWidget <T extends Enum<T>> extends ConfigEntryWidget<T> {
 
     @Environment(EnvType.CLIENT)
     private static class Widget <T extends Enum<T>> extends AbstractButton {
-        private final Class<T> enumClass;
+        private final EnumTable<T> table;
         private final ConfigEntry<T> entry;
         private final TextProvider textProvider;
         private Runnable report;
@@ -36,7 +37,7 @@ public class EnumWidget <T extends Enum<T>> extends ConfigEntryWidget<T> {
         public Widget(int x, int y, int width, int height,
                       Class<T> enumClass, ConfigEntry<T> entry, TextProvider textProvider) {
             super(x, y, width, height, textProvider.get(entry));
-            this.enumClass = enumClass;
+            this.table = EnumTable.of(enumClass);
             this.entry = entry;
             this.textProvider = textProvider;
         }
@@ -65,9 +66,7 @@ public class EnumWidget <T extends Enum<T>> extends ConfigEntryWidget<T> {
         }
 
         private T next(T value) {
-            T[] values = this.enumClass.getEnumConstants();
-            int i = value.ordinal() + 1;
-            return (i >= values.length ? values[0] : values[i]);
+            return this.table.next(value);
         }
     }
 }
@@ -0,0 +1,236 @@
+package ir.mehradn.mehradconfig.gui.widget;
+
+import ir.mehradn.mehradconfig.core.IntList;
+import ir.mehradn.mehradconfig.core.StringDoubleMap;
+import ir.mehradn.mehradconfig.core.StringIntMap;
+import ir.mehradn.mehradconfig.core.StringList;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entry.IdSet;
+import ir.mehradn.mehradconfig.gui.screen.ListEditScreen;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.components.AbstractButton;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.resources.ResourceLocation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ListWidget is a widget for displaying list and map config entries in gui. Pressing it opens a {@link ListEditScreen} for editing the list page by
+ * page.
+ *
+ * @param <T> the type of the list
+ */
+@Environment(EnvType.CLIENT)
+public class ListWidget <T> extends ConfigEntryWidget<T> {
+    /**
+     * Converts integer lists to and from strings.
+     */
+    public static final ListAdapter<IntList> INT_LIST = new ListAdapter<>() {
+        @Override
+        public List<String> toStrings(IntList value) {
+            List<String> strings = new ArrayList<>(value.size());
+            for (int i = 0; i < value.size(); i++)
+                strings.add(Integer.toString(value.get(i)));
+            return strings;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            try {
+                Integer.parseInt(value.strip());
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public IntList fromStrings(List<String> values) {
+            int[] array = new int[values.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = Integer.parseInt(values.get(i).strip());
+            return IntList.of(array);
+        }
+    };
+    /**
+     * Converts string lists to and from strings.
+     */
+    public static final ListAdapter<StringList> STRING_LIST = new ListAdapter<>() {
+        @Override
+        public List<String> toStrings(StringList value) {
+            return Arrays.asList(value.toArray());
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return true;
+        }
+
+        @Override
+        public StringList fromStrings(List<String> values) {
+            return StringList.of(values.toArray(new String[0]));
+        }
+    };
+
+    /**
+     * Converts registry id sets to and from strings.
+     */
+    public static final ListAdapter<IdSet> ID_SET = new ListAdapter<>() {
+        @Override
+        public List<String> toStrings(IdSet value) {
+            List<String> strings = new ArrayList<>(value.size());
+            for (int i = 0; i < value.size(); i++)
+                strings.add(value.get(i).toString());
+            return strings;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return ResourceLocation.tryParse(value.strip()) != null;
+        }
+
+        @Override
+        public IdSet fromStrings(List<String> values) {
+            List<ResourceLocation> ids = new ArrayList<>(values.size());
+            for (String value : values)
+                ids.add(new ResourceLocation(value.strip()));
+            return IdSet.of(ids);
+        }
+    };
+    /**
+     * Converts string to integer maps to and from {@code key=value} strings. Later values of a repeated key replace the earlier ones.
+     */
+    public static final ListAdapter<StringIntMap> STRING_INT_MAP = new ListAdapter<>() {
+        @Override
+        public List<String> toStrings(StringIntMap value) {
+            List<String> strings = new ArrayList<>(value.size());
+            for (int i = 0; i < value.size(); i++)
+                strings.add(value.keyAt(i) + "=" + value.valueAt(i));
+            return strings;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            int separator = value.indexOf('=');
+            if (separator < 0 || value.substring(0, separator).isBlank())
+                return false;
+            try {
+                Integer.parseInt(value.substring(separator + 1).strip());
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public StringIntMap fromStrings(List<String> values) {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            for (String value : values) {
+                int separator = value.indexOf('=');
+                map.put(value.substring(0, separator).strip(), Integer.parseInt(value.substring(separator + 1).strip()));
+            }
+            return StringIntMap.of(map);
+        }
+    };
+    /**
+     * Converts string to double maps to and from {@code key=value} strings. Later values of a repeated key replace the earlier ones.
+     */
+    public static final ListAdapter<StringDoubleMap> STRING_DOUBLE_MAP = new ListAdapter<>() {
+        @Override
+        public List<String> toStrings(StringDoubleMap value) {
+            List<String> strings = new ArrayList<>(value.size());
+            for (int i = 0; i < value.size(); i++)
+                strings.add(value.keyAt(i) + "=" + value.valueAt(i));
+            return strings;
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            int separator = value.indexOf('=');
+            if (separator < 0 || value.substring(0, separator).isBlank())
+                return false;
+            try {
+                return Double.isFinite(Double.parseDouble(value.substring(separator + 1).strip()));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public StringDoubleMap fromStrings(List<String> values) {
+            Map<String, Double> map = new LinkedHashMap<>();
+            for (String value : values) {
+                int separator = value.indexOf('=');
+                map.put(value.substring(0, separator).strip(), Double.parseDouble(value.substring(separator + 1).strip()));
+            }
+            return StringDoubleMap.of(map);
+        }
+    };
+
+    /**
+     * @param adapter      converts the list to and from strings
+     * @param entry        the config entry that will get updated by this widget
+     * @param textProvider a text provider for setting the message of the config entry widget
+     */
+    public ListWidget(int x, int y, int width, int height,
+                      ListAdapter<T> adapter, ConfigEntry<T> entry, TextProvider textProvider) {
+        super(entry, textProvider, new Widget<>(x, y, width, height, adapter, entry, textProvider));
+        ((Widget<?>)this.widget).setReport(this::reportValueChange);
+    }
+
+    /**
+     * ListAdapter converts a type of list to and from the strings that are edited in the gui.
+     *
+     * @param <T> the type of the list
+     */
+    @Environment(EnvType.CLIENT)
+    public interface ListAdapter <T> {
+        List<String> toStrings(T value);
+
+        boolean isValid(String value);
+
+        T fromStrings(List<String> values);
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static class Widget <T> extends AbstractButton {
+        private final ListAdapter<T> adapter;
+        private final ConfigEntry<T> entry;
+        private final TextProvider textProvider;
+        private Runnable report;
+
+        public Widget(int x, int y, int width, int height,
+                      ListAdapter<T> adapter, ConfigEntry<T> entry, TextProvider textProvider) {
+            super(x, y, width, height, textProvider.get(entry));
+            this.adapter = adapter;
+            this.entry = entry;
+            this.textProvider = textProvider;
+        }
+
+        public void setReport(Runnable report) {
+            this.report = report;
+        }
+
+        @Override
+        public void onPress() {
+            Minecraft minecraft = Minecraft.getInstance();
+            minecraft.setScreen(new ListEditScreen(this.textProvider.get(this.entry), this.adapter.toStrings(this.entry.get()),
+                this.adapter::isValid, this::setValues, minecraft.screen));
+        }
+
+        private void setValues(List<String> values) {
+            this.entry.set(this.adapter.fromStrings(values));
+            this.report.run();
+        }
+
+        @Override
+        protected void updateWidgetNarration(NarrationElementOutput narrationElementOutput) {
+            defaultButtonNarrationText(narrationElementOutput);
+        }
+    }
+}
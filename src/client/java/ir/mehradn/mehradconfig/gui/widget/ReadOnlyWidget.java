@@ -0,0 +1,60 @@
+package ir.mehradn.mehradconfig.gui.widget;
+
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.AbstractButton;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+
+/**
+ * ReadOnlyWidget is a widget for displaying config entries that can't be changed in gui, like computed entries. It is an inactive button, and
+ * it updates its message when it gets rendered after the value has changed.
+ *
+ * @param <T> the type of the config value
+ */
+@Environment(EnvType.CLIENT)
+public class ReadOnlyWidget <T> extends ConfigEntryWidget<T> {
+    /**
+     * @param entry        the config entry that is displayed by this widget
+     * @param textProvider a text provider for setting the message of the config entry widget
+     */
+    public ReadOnlyWidget(int x, int y, int width, int height,
+                          ConfigEntry<T> entry, TextProvider textProvider) {
+        super(entry, textProvider, new Widget<>(x, y, width, height, entry, textProvider));
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static class Widget <T> extends AbstractButton {
+        private final ConfigEntry<T> entry;
+        private final TextProvider textProvider;
+        private T shownValue;
+
+        public Widget(int x, int y, int width, int height,
+                      ConfigEntry<T> entry, TextProvider textProvider) {
+            super(x, y, width, height, textProvider.get(entry));
+            this.entry = entry;
+            this.textProvider = textProvider;
+            this.shownValue = entry.get();
+            this.active = false;
+        }
+
+        @Override
+        public void onPress() { }
+
+        @Override
+        public void renderWidget(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+            T value = this.entry.get();
+            if (value != this.shownValue) {
+                this.shownValue = value;
+                setMessage(this.textProvider.get(this.entry, value));
+            }
+            super.renderWidget(guiGraphics, mouseX, mouseY, partialTick);
+        }
+
+        @Override
+        protected void updateWidgetNarration(NarrationElementOutput narrationElementOutput) {
+            defaultButtonNarrationText(narrationElementOutput);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ir.mehradn.mehradconfig.gui.widget;
+
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.components.AbstractSliderButton;
+import java.util.function.DoubleFunction;
+
+/**
+ * SliderDecimalWidget is a widget for displaying and updating fractional number config entries in gui using a slider.
+ * It works for config entries that have a constant min and max, the entry is expected to round the values to its step.
+ *
+ * @param <T> the boxed type of the config value
+ */
+@Environment(EnvType.CLIENT)
+public class SliderDecimalWidget <T extends Number> extends ConfigEntryWidget<T> {
+    /**
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param box          converts the values of the slider to the type of the entry
+     * @param entry        the config entry that will get updated by this widget
+     * @param textProvider a text provider for setting the message of the config entry widget
+     */
+    public SliderDecimalWidget(int x, int y, int width, int height,
+                               double min, double max, DoubleFunction<T> box, ConfigEntry<T> entry, TextProvider textProvider) {
+        super(entry, textProvider, new Widget<>(x, y, width, height, min, max, box, entry, textProvider));
+        ((Widget<?>)this.widget).setReport(this::reportValueChange);
+    }
+
+    @Override
+    public void reportValueChange() {
+        super.reportValueChange();
+        ((Widget<?>)this.widget).updateSlider();
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static class Widget <T extends Number> extends AbstractSliderButton {
+        private final double min;
+        private final double max;
+        private final DoubleFunction<T> box;
+        private final ConfigEntry<T> entry;
+        private Runnable report;
+
+        public Widget(int x, int y, int width, int height,
+                      double min, double max, DoubleFunction<T> box, ConfigEntry<T> entry, TextProvider textProvider) {
+            super(x, y, width, height, textProvider.get(entry), valueToSlider(min, max, entry.get().doubleValue()));
+            this.min = min;
+            this.max = max;
+            this.box = box;
+            this.entry = entry;
+        }
+
+        public void setReport(Runnable report) {
+            this.report = report;
+        }
+
+        public void updateSlider() {
+            this.value = valueToSlider(this.min, this.max, this.entry.get().doubleValue());
+        }
+
+        @Override
+        protected void updateMessage() {
+            this.report.run();
+        }
+
+        @Override
+        protected void applyValue() {
+            this.entry.set(this.box.apply(sliderToValue(this.min, this.max, this.value)));
+        }
+
+        private static double sliderToValue(double min, double max, double slider) {
+            return min + slider * (max - min);
+        }
+
+        private static double valueToSlider(double min, double max, double value) {
+            return (max > min ? (value - min) / (max - min) : 0);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ir.mehradn.mehradconfig.gui.widget;
+
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
+
+/**
+ * TextFieldWidget is a widget for displaying and updating string config entries in gui using a text field. The title and value of the entry
+ * are shown as the tooltip of the field, and text that the entry doesn't accept is shown in red.
+ */
+@Environment(EnvType.CLIENT)
+public class TextFieldWidget extends ConfigEntryWidget<String> {
+    /**
+     * @param maxLength    the maximum number of characters allowed
+     * @param entry        the config entry that will get updated by this widget
+     * @param textProvider a text provider for setting the message of the config entry widget
+     */
+    public TextFieldWidget(int x, int y, int width, int height,
+                           int maxLength, ConfigEntry<String> entry, TextProvider textProvider) {
+        super(entry, textProvider, new Widget(x, y, width, height, maxLength, entry, textProvider));
+        ((Widget)this.widget).setReport(this::reportValueChange);
+    }
+
+    @Override
+    protected void onValueChanged() {
+        super.onValueChanged();
+        ((Widget)this.widget).updateText();
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static class Widget extends EditBox {
+        private static final int INVALID_COLOR = 0xFF5555;
+        private static final int VALID_COLOR = 0xE0E0E0;
+        private final ConfigEntry<String> entry;
+        private Runnable report;
+        private boolean editing = false;
+
+        public Widget(int x, int y, int width, int height,
+                      int maxLength, ConfigEntry<String> entry, TextProvider textProvider) {
+            super(Minecraft.getInstance().font, x, y, width, height, textProvider.get(entry));
+            this.entry = entry;
+            setMaxLength(maxLength);
+            setValue(entry.get());
+            setTooltip(Tooltip.create(textProvider.get(entry)));
+            setResponder(this::onEdit);
+        }
+
+        public void setReport(Runnable report) {
+            this.report = report;
+        }
+
+        public void updateText() {
+            setTooltip(Tooltip.create(getMessage()));
+            if (!this.editing && !getValue().equals(this.entry.get()))
+                setValue(this.entry.get());
+        }
+
+        private void onEdit(String value) {
+            this.editing = true;
+            this.entry.set(value);
+            setTextColor(value.equals(this.entry.get()) ? VALID_COLOR : INVALID_COLOR);
+            if (this.report != null)
+                this.report.run();
+            this.editing = false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the {@link ConfigChunks chunks} of configs on the client. Each chunk is decoded into a staging copy of the config as soon as it
+ * arrives, and the staging copy is copied to the received config after the last chunk. A transfer is cancelled when a newer transfer or a full
+ * sync of the same config arrives. Only used on the client's main thread.
+ */
+@Environment(EnvType.CLIENT)
+final class ChunkedTransfers {
+    private static final Map<String, Transfer> TRANSFERS = new HashMap<>();
+
+    private ChunkedTransfers() { }
+
+    static void receive(FriendlyByteBuf buf) {
+        String id = buf.readUtf();
+        int transferNumber = buf.readVarInt();
+        int chunk = buf.readVarInt();
+        int chunkCount = buf.readVarInt();
+        int firstEntry = buf.readVarInt();
+        int entryCount = buf.readVarInt();
+
+        SyncedConfig synced = ConfigSync.get(id);
+        if (synced == null) {
+            MehradConfigEntrypoint.LOGGER.warn("Received a chunk of unknown config {} from the server!", id);
+            return;
+        }
+
+        Transfer transfer = TRANSFERS.get(id);
+        if (transfer != null && transferNumber < transfer.number)
+            return;
+        if (transfer == null || transferNumber > transfer.number) {
+            if (chunk != 0)
+                return;
+            transfer = new Transfer(transferNumber, synced.config.createNewInstance());
+            TRANSFERS.put(id, transfer);
+        }
+        if (chunk != transfer.nextChunk) {
+            MehradConfigEntrypoint.LOGGER.warn("Received chunk {} of config {} out of order, expected {}!", chunk, id, transfer.nextChunk);
+            TRANSFERS.remove(id);
+            return;
+        }
+
+        List<ConfigEntry<?>> entries = transfer.staging.getEntries();
+        if (firstEntry + entryCount > entries.size()) {
+            MehradConfigEntrypoint.LOGGER.warn("Received too many entries for config {}!", id);
+            TRANSFERS.remove(id);
+            return;
+        }
+        try {
+            for (int i = firstEntry; i < firstEntry + entryCount; i++) {
+                if (buf.readBoolean())
+                    entries.get(i).readFromBuf(buf);
+                else
+                    entries.get(i).reset();
+            }
+        } catch (RuntimeException e) {
+            MehradConfigEntrypoint.LOGGER.warn("Failed to read chunk {} of config {}: {}", chunk, id, e.getMessage());
+            TRANSFERS.remove(id);
+            return;
+        }
+        transfer.nextChunk++;
+
+        if (transfer.nextChunk == chunkCount) {
+            TRANSFERS.remove(id);
+            transfer.staging.copyTo(synced.received);
+            synced.hasReceived = true;
+        }
+    }
+
+    /**
+     * Cancels the transfer of a config, because newer values of the config arrived.
+     *
+     * @param id the id of the config
+     */
+    static void cancel(String id) {
+        TRANSFERS.remove(id);
+    }
+
+    static void clear() {
+        TRANSFERS.clear();
+    }
+
+    private static final class Transfer {
+        private final int number;
+        private final MehradConfig staging;
+        private int nextChunk = 0;
+
+        private Transfer(int number, MehradConfig staging) {
+            this.number = number;
+            this.staging = staging;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ConfigEditOutbox collects the edits of synced configs on the client and sends them to the server. The edits of each entry are merged, so only
+ * the last value of an entry is sent, and all of the pending edits are sent in one packet at most once every {@link #setFlushInterval few ticks}.
+ * <p>
+ * Only use it on the client's main thread. The server only applies the edits of players with the {@link ConfigSync#setEditPermission permission}.
+ */
+@Environment(EnvType.CLIENT)
+public final class ConfigEditOutbox {
+    private static final Map<SyncedConfig, ConfigDelta> PENDING = new LinkedHashMap<>();
+    private static int flushInterval = 5;
+    private static int ticksSinceFlush = 0;
+
+    private ConfigEditOutbox() { }
+
+    /**
+     * Queues the value of one entry to be sent to the server, replacing the previous value of the entry if it wasn't sent yet.
+     *
+     * @param synced the synced config that is edited
+     * @param edited the config holding the new value, of the same class as the synced config
+     * @param index  the index of the edited entry
+     */
+    public static void submit(SyncedConfig synced, MehradConfig edited, int index) {
+        PENDING.computeIfAbsent(synced, ConfigDelta::new).edit(edited, index);
+    }
+
+    /**
+     * Queues the values of all of the entries that are different from the {@link SyncedConfig#get current values} of the synced config.
+     *
+     * @param synced the synced config that is edited
+     * @param edited the config holding the new values, of the same class as the synced config
+     */
+    public static void submit(SyncedConfig synced, MehradConfig edited) {
+        List<ConfigEntry<?>> current = synced.get().getEntries();
+        List<ConfigEntry<?>> entries = edited.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            ConfigEntry<?> entry = entries.get(i);
+            ConfigEntry<?> currentEntry = current.get(i);
+            if (entry.shouldWrite() != currentEntry.shouldWrite() || !Objects.equals(entry.get(), currentEntry.get()))
+                submit(synced, edited, i);
+        }
+    }
+
+    /**
+     * Sets the minimum number of ticks between two edit packets. The default is 5 ticks.
+     *
+     * @param ticks the number of ticks
+     */
+    public static void setFlushInterval(int ticks) {
+        if (ticks < 1)
+            throw new IllegalArgumentException("The flush interval must be at least one tick!");
+        flushInterval = ticks;
+    }
+
+    /**
+     * Sends the pending edits now, regardless of the flush interval.
+     */
+    public static void flush() {
+        ticksSinceFlush = 0;
+        if (PENDING.isEmpty())
+            return;
+        if (!ClientPlayNetworking.canSend(ConfigSync.EDIT_CHANNEL)) {
+            PENDING.clear();
+            return;
+        }
+
+        FriendlyByteBuf buf = PacketByteBufs.create();
+        buf.writeVarInt(PENDING.size());
+        for (ConfigDelta delta : PENDING.values())
+            delta.writeHeader(buf);
+        for (ConfigDelta delta : PENDING.values())
+            delta.writeValues(buf);
+        PENDING.clear();
+        ClientPlayNetworking.send(ConfigSync.EDIT_CHANNEL, buf);
+    }
+
+    static void tick() {
+        if (++ticksSinceFlush >= flushInterval)
+            flush();
+    }
+
+    static void clear() {
+        PENDING.clear();
+        ticksSinceFlush = 0;
+    }
+}
@@ -0,0 +1,118 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The client side of {@link ConfigSync}.
+ */
+@Environment(EnvType.CLIENT)
+public final class ConfigSyncClient {
+    private ConfigSyncClient() { }
+
+    /**
+     * Registers the receivers and the events. Called by the client entrypoint.
+     */
+    public static void init() {
+        ClientPlayNetworking.registerGlobalReceiver(ConfigSync.SYNC_CHANNEL, (client, handler, buf, responseSender) -> {
+            buf.retain();
+            client.execute(() -> {
+                try {
+                    onSync(buf);
+                } finally {
+                    buf.release();
+                }
+            });
+        });
+        ClientPlayNetworking.registerGlobalReceiver(ConfigSync.CHUNK_CHANNEL, (client, handler, buf, responseSender) -> {
+            buf.retain();
+            client.execute(() -> {
+                try {
+                    ChunkedTransfers.receive(buf);
+                } finally {
+                    buf.release();
+                }
+            });
+        });
+        ConfigSync.localReceiver = (snapshots) -> Minecraft.getInstance().execute(() -> onLocalSync(snapshots));
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> onJoin(client.isLocalServer()));
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(ConfigSyncClient::onDisconnect));
+        ClientTickEvents.END_CLIENT_TICK.register((client) -> ConfigEditOutbox.tick());
+    }
+
+    private static void onJoin(boolean isLocal) {
+        Collection<SyncedConfig> configs = ConfigSync.getAll();
+        if (configs.isEmpty() || !ClientPlayNetworking.canSend(ConfigSync.HELLO_CHANNEL))
+            return;
+
+        FriendlyByteBuf buf = PacketByteBufs.create();
+        buf.writeVarInt(PayloadCompression.SUPPORTED);
+        buf.writeVarInt(configs.size());
+        for (SyncedConfig synced : configs) {
+            // Until the server says otherwise, the client uses its own values
+            synced.config.copyTo(synced.received);
+            synced.hasReceived = true;
+            buf.writeUtf(synced.id);
+            // The integrated server copies the values without looking at the checksums
+            buf.writeInt(isLocal ? 0 : synced.received.getEncodedChecksum());
+        }
+        ClientPlayNetworking.send(ConfigSync.HELLO_CHANNEL, buf);
+    }
+
+    private static void onSync(FriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        for (int i = 0; i < size; i++) {
+            String id = buf.readUtf();
+            SyncedConfig synced = ConfigSync.get(id);
+            FriendlyByteBuf payload;
+            try {
+                payload = PayloadCompression.read(buf, synced);
+            } catch (IllegalArgumentException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Failed to decompress config {}: {}", id, e.getMessage());
+                continue;
+            }
+            if (payload == null) {
+                MehradConfigEntrypoint.LOGGER.warn("Received unknown config {} from the server!", id);
+                continue;
+            }
+
+            // Decoded into a new instance first, so a config that can't be read doesn't leave the received values half-updated
+            MehradConfig values = synced.config.createNewInstance();
+            try {
+                values.readFromBuf(payload);
+            } catch (RuntimeException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Failed to read config {} from the server: {}", id, e.getMessage());
+                continue;
+            } finally {
+                payload.release();
+            }
+            ChunkedTransfers.cancel(id);
+            values.copyTo(synced.received);
+            synced.hasReceived = true;
+        }
+    }
+
+    private static void onLocalSync(List<ConfigSnapshot> snapshots) {
+        for (ConfigSnapshot snapshot : snapshots) {
+            snapshot.values().copyTo(snapshot.synced().received);
+            snapshot.synced().hasReceived = true;
+        }
+    }
+
+    private static void onDisconnect() {
+        ConfigEditOutbox.clear();
+        ChunkedTransfers.clear();
+        for (SyncedConfig synced : ConfigSync.getAll())
+            synced.hasReceived = false;
+    }
+}
@@ -0,0 +1,77 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * SyncedConfigEditor sends the changes of a config that is edited in a screen to the server, through {@link ConfigEditOutbox}, as they happen. It
+ * is used by the config screens for the configs that are synced by the current server.
+ * <p>
+ * Only use it on the client's main thread.
+ */
+@Environment(EnvType.CLIENT)
+public final class SyncedConfigEditor {
+    private final SyncedConfig synced;
+    private final MehradConfig config;
+    private final MehradConfig original;
+    private final BitSet edited = new BitSet();
+    private final List<Runnable> listeners = new ArrayList<>();
+
+    private SyncedConfigEditor(SyncedConfig synced, MehradConfig config) {
+        this.synced = synced;
+        this.config = config;
+        this.original = synced.get().createNewInstance();
+        synced.get().copyTo(this.original);
+
+        List<ConfigEntry<?>> entries = config.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            int index = i;
+            Runnable listener = () -> onEdit(index);
+            entries.get(i).addChangeListener(listener);
+            this.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Starts sending the changes of the given config, if it is synced and its values were received from the server.
+     *
+     * @param config the config that is edited, of the same class as the synced config
+     * @return the editor, or {@code null} if the config isn't edited on a server
+     */
+    public static @Nullable SyncedConfigEditor attach(MehradConfig config) {
+        SyncedConfig synced = ConfigSync.get(config.getId());
+        if (synced == null || !synced.hasReceived())
+            return null;
+        return new SyncedConfigEditor(synced, config);
+    }
+
+    /**
+     * Stops sending the changes and sends the pending edits now.
+     */
+    public void detach() {
+        List<ConfigEntry<?>> entries = this.config.getEntries();
+        for (int i = 0; i < entries.size(); i++)
+            entries.get(i).removeChangeListener(this.listeners.get(i));
+        ConfigEditOutbox.flush();
+    }
+
+    /**
+     * Sends the values that the edited entries had when the editor was attached, and stops sending the changes.
+     */
+    public void revert() {
+        for (int i = this.edited.nextSetBit(0); i >= 0; i = this.edited.nextSetBit(i + 1))
+            ConfigEditOutbox.submit(this.synced, this.original, i);
+        detach();
+    }
+
+    private void onEdit(int i) {
+        this.edited.set(i);
+        ConfigEditOutbox.submit(this.synced, this.config, i);
+    }
+}
@@ -0,0 +1,103 @@
+package ir.mehradn.mehradconfig.benchmark;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A config with a configurable number and mix of entries, for benchmarking.
+ */
+public class BenchmarkConfig extends MehradConfig {
+    private static final BooleanEntry FALLBACK_BOOLEAN = new BooleanEntry("fallbackBoolean", true);
+    private static final NumberEntry FALLBACK_NUMBER = new NumberEntry("fallbackNumber", 0, 1000, 500);
+    private final int entryCount;
+    private final EntryMix mix;
+    private final List<ConfigEntry<?>> entries;
+
+    public BenchmarkConfig(int entryCount, EntryMix mix) {
+        super("mehrad-config-benchmark");
+        this.entryCount = entryCount;
+        this.mix = mix;
+
+        List<ConfigEntry<?>> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++)
+            entries.add(createEntry(mix.typeOf(i), "entry" + i));
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Changes about half of the entries from their default values.
+     */
+    public void randomize() {
+        for (int i = 0; i < this.entries.size(); i += 2)
+            change(i);
+    }
+
+    /**
+     * Changes an entry from its default value.
+     *
+     * @param i the index of the entry
+     */
+    @SuppressWarnings("unchecked")
+    public void change(int i) {
+        ConfigEntry<?> entry = this.entries.get(i);
+        switch (this.mix.typeOf(i)) {
+            case BOOLEAN -> ((BooleanEntry)entry).set(false);
+            case NUMBER -> ((NumberEntry)entry).set(i % 500);
+            case ENUM -> ((EnumEntry<Level>)entry).set(i % 2 == 0 ? Level.LOW : Level.HIGH);
+            case OPTIONAL -> ((OptionalEntry<Integer>)entry).set(i % 1000);
+        }
+    }
+
+    @Override
+    public List<ConfigEntry<?>> getEntries() {
+        return this.entries;
+    }
+
+    @Override
+    public MehradConfig createNewInstance() {
+        return new BenchmarkConfig(this.entryCount, this.mix);
+    }
+
+    private static ConfigEntry<?> createEntry(EntryType type, String name) {
+        return switch (type) {
+            case BOOLEAN -> new BooleanEntry(name, true);
+            case NUMBER -> new NumberEntry(name, 0, 1000, 500);
+            case ENUM -> new EnumEntry<>(name, Level.class, Level.MEDIUM);
+            case OPTIONAL -> new NumberEntry(name, 0, 1000, 500).makeOptional(FALLBACK_NUMBER);
+        };
+    }
+
+    public enum EntryType {
+        BOOLEAN,
+        NUMBER,
+        ENUM,
+        OPTIONAL
+    }
+
+    public enum EntryMix {
+        BOOLEAN,
+        NUMBER,
+        ENUM,
+        OPTIONAL,
+        MIXED;
+
+        public EntryType typeOf(int i) {
+            return switch (this) {
+                case BOOLEAN -> EntryType.BOOLEAN;
+                case NUMBER -> EntryType.NUMBER;
+                case ENUM -> EntryType.ENUM;
+                case OPTIONAL -> EntryType.OPTIONAL;
+                case MIXED -> EntryType.values()[i % EntryType.values().length];
+            };
+        }
+    }
+
+    public enum Level {
+        LOW,
+        MEDIUM,
+        HIGH,
+        EXTREME
+    }
+}
@@ -0,0 +1,155 @@
+package ir.mehradn.mehradconfig.benchmark;
+
+import com.google.gson.JsonObject;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import ir.mehradn.mehradconfig.MehradConfig;
+import net.minecraft.network.FriendlyByteBuf;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the core paths of {@link MehradConfig}. Run them with {@code ./gradlew jmh}, which also enables the GC profiler to report the
+ * allocation rate of each benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MehradConfigBenchmark {
+    private static final int RESET_BATCH = 64;
+    @Param({"10", "100", "1000", "10000"})
+    public int entryCount;
+    @Param({"BOOLEAN", "NUMBER", "ENUM", "OPTIONAL", "MIXED"})
+    public BenchmarkConfig.EntryMix mix;
+
+    private BenchmarkConfig config;
+    private BenchmarkConfig target;
+    private BenchmarkConfig lastChanged;
+    private JsonObject json;
+    private FriendlyByteBuf writeBuf;
+    private FriendlyByteBuf readBuf;
+    private Path configFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.config = new BenchmarkConfig(this.entryCount, this.mix);
+        this.config.randomize();
+        this.target = (BenchmarkConfig)this.config.createNewInstance();
+        this.lastChanged = (BenchmarkConfig)this.config.createNewInstance();
+        this.lastChanged.change(this.entryCount - 1);
+        this.json = this.config.toJson();
+
+        this.writeBuf = new FriendlyByteBuf(Unpooled.buffer());
+        this.config.writeToBuf(this.writeBuf);
+        ByteBuf encoded = Unpooled.copiedBuffer(this.writeBuf);
+        this.readBuf = new FriendlyByteBuf(encoded);
+
+        this.configFile = Files.createTempFile("mehrad-config-benchmark", ".json");
+        this.config.save(this.configFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.configFile);
+    }
+
+    @Benchmark
+    public JsonObject toJson() {
+        return this.config.toJson();
+    }
+
+    @Benchmark
+    public MehradConfig fromJson() {
+        this.target.fromJson(this.json);
+        return this.target;
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        this.config.save(this.configFile);
+        return this.configFile;
+    }
+
+    @Benchmark
+    public MehradConfig load() throws IOException {
+        this.target.load(this.configFile);
+        return this.target;
+    }
+
+    @Benchmark
+    public FriendlyByteBuf writeToBuf() {
+        this.writeBuf.clear();
+        this.config.writeToBuf(this.writeBuf);
+        return this.writeBuf;
+    }
+
+    @Benchmark
+    public int encodedPayload() {
+        FriendlyByteBuf buf = this.config.getEncodedPayload();
+        int size = buf.readableBytes();
+        buf.release();
+        return size;
+    }
+
+    @Benchmark
+    public MehradConfig readFromBuf() {
+        this.readBuf.readerIndex(0);
+        this.target.readFromBuf(this.readBuf);
+        return this.target;
+    }
+
+    @Benchmark
+    public MehradConfig copyTo() {
+        this.config.copyTo(this.target);
+        return this.target;
+    }
+
+    /**
+     * Resetting changes the config, so the configs are randomized in batches of {@value #RESET_BATCH} before each iteration, and each shot
+     * measures the time of resetting the whole batch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20, batchSize = RESET_BATCH)
+    @Measurement(iterations = 50, batchSize = RESET_BATCH)
+    public MehradConfig reset(ResetTargets targets) {
+        BenchmarkConfig config = targets.next();
+        config.reset();
+        return config;
+    }
+
+    /**
+     * Only the last entry isn't default, so finding it by scanning the entries would go through all of them.
+     */
+    @Benchmark
+    public boolean isAllDefault() {
+        return this.lastChanged.isAllDefault();
+    }
+
+    @State(Scope.Thread)
+    public static class ResetTargets {
+        private final BenchmarkConfig[] configs = new BenchmarkConfig[RESET_BATCH];
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void randomize(MehradConfigBenchmark benchmark) {
+            for (int i = 0; i < this.configs.length; i++) {
+                if (this.configs[i] == null)
+                    this.configs[i] = (BenchmarkConfig)benchmark.config.createNewInstance();
+                this.configs[i].randomize();
+            }
+            this.next = 0;
+        }
+
+        BenchmarkConfig next() {
+            return this.configs[this.next++];
+        }
+    }
+}
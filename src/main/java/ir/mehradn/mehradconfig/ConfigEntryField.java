@@ -0,0 +1,27 @@
+package ir.mehradn.mehradconfig;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a config entry field of a {@link MehradConfig} for the {@code mehrad-config-processor} annotation processor. For each config class with
+ * annotated fields, the processor generates a companion class named {@code {ConfigClass}Entries} in the same package, which contains the entry
+ * list, a name to index table and a {@code createNewInstance}. The json and buffer methods are left to {@code MehradConfig}, which compiles a
+ * codec for the entries.
+ * <p>
+ * The entries are ordered the same as the declaration order of the fields. The fields must not be {@code private} or {@code static}, and should be
+ * {@code final}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface ConfigEntryField {
+    /**
+     * The name of the entry, used in the generated name to index table. It must be the same as the {@link
+     * ir.mehradn.mehradconfig.entry.ConfigEntry#getName name} passed to the entry.
+     *
+     * @return the name of the entry, or an empty string to use the name of the field
+     */
+    String value() default "";
+}
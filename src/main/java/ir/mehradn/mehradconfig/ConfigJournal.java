@@ -0,0 +1,253 @@
+package ir.mehradn.mehradconfig;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import ir.mehradn.mehradconfig.entry.ComputedEntry;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.network.FriendlyByteBuf;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * ConfigJournal is a persistence mode for configs that change often. Instead of saving the whole json file on each change, every change of an
+ * entry appends a small record to a journal file next to the config file. The journal is compacted into the json file once it grows past a
+ * threshold, or on the first change after the compaction interval has passed, and when the journal is closed.
+ * <p>
+ * Each record holds the name of the entry, a version that increases with every record, the value of the entry in the format of
+ * {@link ConfigEntry#writeToBuf} (or a length of {@code -1} for entries that were changed to not be {@link ConfigEntry#shouldWrite written}, which
+ * replays as a {@link ConfigEntry#reset reset}), and a checksum. {@link #open} loads the json file and replays the journal over it, a torn or
+ * corrupted record at the end of the journal (left by a crash in the middle of a write) is dropped along with anything after it. So is a record
+ * whose value can't be read anymore, for example after a mod that the registry of the entry depends on is removed. The records of entries that
+ * were removed from the config are skipped.
+ */
+public final class ConfigJournal implements AutoCloseable {
+    private static final long DEFAULT_COMPACT_THRESHOLD = 1 << 16;
+    private static final long DEFAULT_COMPACT_INTERVAL = 5 * 60 * 1000;
+    private final MehradConfig config;
+    private final Path configFile;
+    private final Path journalFile;
+    private final FriendlyByteBuf record = new FriendlyByteBuf(Unpooled.buffer());
+    private final FriendlyByteBuf value = new FriendlyByteBuf(Unpooled.buffer());
+    private final CRC32 crc = new CRC32();
+    private final Runnable[] listeners;
+    private FileChannel channel;
+    private long version = 0;
+    private long compactThreshold = DEFAULT_COMPACT_THRESHOLD;
+    private long compactInterval = DEFAULT_COMPACT_INTERVAL;
+    private long lastCompaction = System.currentTimeMillis();
+
+    private ConfigJournal(MehradConfig config, Path configFile, Path journalFile) {
+        this.config = config;
+        this.configFile = configFile;
+        this.journalFile = journalFile;
+        this.listeners = new Runnable[config.getEntries().size()];
+    }
+
+    /**
+     * Opens the journal of the config in the config folder, the journal file is named {@code {name}.journal}.
+     *
+     * @param config the config to journal the changes of
+     * @return the opened journal
+     * @throws IOException if any of the IO operations fail
+     * @see #open(MehradConfig, Path, Path)
+     */
+    public static ConfigJournal open(MehradConfig config) throws IOException {
+        Path configDir = FabricLoader.getInstance().getConfigDir();
+        Files.createDirectories(configDir);
+        return open(config, configDir.resolve(config.name + ".json"), configDir.resolve(config.name + ".journal"));
+    }
+
+    /**
+     * Loads the config from the json file if it exists, replays the journal over it, and starts journaling the changes of the config.
+     *
+     * @param config      the config to journal the changes of
+     * @param configFile  the json file of the config, the snapshot that the journal is compacted into
+     * @param journalFile the journal file
+     * @return the opened journal
+     * @throws IOException if any of the IO operations fail
+     */
+    public static ConfigJournal open(MehradConfig config, Path configFile, Path journalFile) throws IOException {
+        ConfigJournal journal = new ConfigJournal(config, configFile, journalFile);
+        if (Files.exists(configFile))
+            config.load(configFile);
+        journal.replay();
+        journal.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journal.attach();
+        return journal;
+    }
+
+    /**
+     * @param compactThreshold the size of the journal, in bytes, that makes it get compacted. The default is 64 KiB.
+     */
+    public synchronized void setCompactThreshold(long compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * @param compactInterval the time, in milliseconds, after which the next change compacts the journal. The default is 5 minutes.
+     */
+    public synchronized void setCompactInterval(long compactInterval) {
+        this.compactInterval = compactInterval;
+    }
+
+    /**
+     * @return the version of the last record of the journal
+     */
+    public synchronized long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Saves the config to the json file and empties the journal. The json file is replaced atomically, and replaying the journal over the new
+     * json file gives the same values, so a crash at any point doesn't lose changes.
+     *
+     * @throws IOException if any of the IO operations fail
+     */
+    public synchronized void compact() throws IOException {
+        Path tempFile = this.configFile.resolveSibling(this.configFile.getFileName() + ".tmp");
+        this.config.save(tempFile);
+        Files.move(tempFile, this.configFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (this.channel != null)
+            this.channel.truncate(0);
+        else
+            Files.deleteIfExists(this.journalFile);
+        this.lastCompaction = System.currentTimeMillis();
+    }
+
+    /**
+     * Stops journaling the changes of the config, and compacts the journal.
+     *
+     * @throws IOException if any of the IO operations fail
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel == null)
+            return;
+        List<ConfigEntry<?>> entries = this.config.getEntries();
+        for (int i = 0; i < this.listeners.length; i++)
+            if (this.listeners[i] != null)
+                entries.get(i).removeChangeListener(this.listeners[i]);
+        try {
+            compact();
+        } finally {
+            this.channel.close();
+            this.channel = null;
+            this.record.release();
+            this.value.release();
+        }
+    }
+
+    private void attach() {
+        List<ConfigEntry<?>> entries = this.config.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            // Computed entries are never written, their changes are left to their dependencies
+            if (entries.get(i) instanceof ComputedEntry<?>)
+                continue;
+            int index = i;
+            this.listeners[i] = () -> onChange(index);
+            entries.get(i).addChangeListener(this.listeners[i]);
+        }
+    }
+
+    private synchronized void onChange(int index) {
+        if (this.channel == null)
+            return;
+        ConfigEntry<?> entry = this.config.getEntries().get(index);
+        try {
+            append(entry);
+            if (this.channel.size() >= this.compactThreshold || System.currentTimeMillis() - this.lastCompaction >= this.compactInterval)
+                compact();
+        } catch (IOException e) {
+            MehradConfigEntrypoint.LOGGER.error("Failed to journal a change of \"" + this.config.getId() + "\"!", e);
+        }
+    }
+
+    private void append(ConfigEntry<?> entry) throws IOException {
+        this.value.clear();
+        if (entry.shouldWrite())
+            entry.writeToBuf(this.value);
+        this.record.clear();
+        this.record.writeUtf(entry.getName());
+        this.record.writeVarLong(++this.version);
+        this.record.writeVarInt(entry.shouldWrite() ? this.value.readableBytes() : -1);
+        this.record.writeBytes(this.value);
+        this.crc.reset();
+        this.crc.update(this.record.nioBuffer());
+        this.record.writeInt((int)this.crc.getValue());
+        this.channel.write(this.record.nioBuffer());
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(this.journalFile))
+            return;
+        ByteBuf buf = Unpooled.wrappedBuffer(Files.readAllBytes(this.journalFile));
+        List<ConfigEntry<?>> entries = this.config.getEntries();
+        List<ConfigEntry<?>> decoded = this.config.createNewInstance().getEntries();
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++)
+            indices.put(entries.get(i).getName(), i);
+        FriendlyByteBuf record = new FriendlyByteBuf(buf);
+        int valid = 0;
+        while (buf.isReadable()) {
+            int start = buf.readerIndex();
+            String name;
+            long version;
+            FriendlyByteBuf value;
+            try {
+                name = record.readUtf();
+                version = record.readVarLong();
+                int length = record.readVarInt();
+                value = (length == -1 ? null : new FriendlyByteBuf(record.readSlice(length)));
+                this.crc.reset();
+                this.crc.update(buf.nioBuffer(start, buf.readerIndex() - start));
+                if (record.readInt() != (int)this.crc.getValue())
+                    break;
+            } catch (RuntimeException e) {
+                break;
+            }
+
+            Integer index = indices.get(name);
+            if (index == null) {
+                MehradConfigEntrypoint.LOGGER.warn("Skipped a journal record of the unknown entry \"{}\" of \"{}\".", name, this.config.getId());
+            } else if (value == null) {
+                entries.get(index).reset();
+            } else {
+                // Decoded into a new instance first, so a record that can't be read doesn't leave the entry half-set
+                try {
+                    decoded.get(index).readFromBuf(value);
+                    if (value.isReadable())
+                        throw new IllegalStateException(value.readableBytes() + " bytes of the value were left unread!");
+                } catch (RuntimeException e) {
+                    MehradConfigEntrypoint.LOGGER.warn("Failed to replay a journal record of \"{}\" of \"{}\"!", name, this.config.getId(), e);
+                    break;
+                }
+                copyEntry(decoded.get(index), entries.get(index));
+            }
+            this.version = Math.max(this.version, version);
+            valid = buf.readerIndex();
+        }
+
+        if (valid < buf.capacity()) {
+            MehradConfigEntrypoint.LOGGER.warn("Dropped {} bytes of torn or unreadable records from the journal of \"{}\".", buf.capacity() - valid,
+                this.config.getId());
+            try (FileChannel channel = FileChannel.open(this.journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void copyEntry(ConfigEntry<?> from, ConfigEntry<?> to) {
+        ((ConfigEntry<T>)from).copyTo((ConfigEntry<T>)to);
+    }
+}
@@ -0,0 +1,191 @@
+package ir.mehradn.mehradconfig;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.entry.ComputedEntry;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entry.DecimalEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ConfigPatch is the difference between two configs of the same class, as the set of the changed entries and their new values. The values are
+ * held in a separate instance of the config, so a patch is computed and applied entry by entry, without serializing either config. Entries that
+ * change to not be {@link ConfigEntry#shouldWrite written}, like optional entries that lose their value, are reset by the patch.
+ * <p>
+ * To compare a config with its file, load the file into a {@link MehradConfig#createNewInstance new instance} and diff the two.
+ */
+public final class ConfigPatch {
+    private final MehradConfig values;
+    private final BitSet changed = new BitSet();
+
+    private ConfigPatch(MehradConfig values) {
+        this.values = values;
+    }
+
+    /**
+     * Compares two configs entry by entry. Computed entries are skipped, since they are never written.
+     *
+     * @param from the config to compare
+     * @param to   the config to compare with, of the same class as {@code from}
+     * @return a patch that changes {@code from} to {@code to}
+     * @throws IllegalArgumentException if the configs aren't of the same class or their entries don't match
+     */
+    public static ConfigPatch diff(MehradConfig from, MehradConfig to) {
+        if (from.getClass() != to.getClass())
+            throw new IllegalArgumentException("Mismatching config classes " + from.getClass().getName() + " and " + to.getClass().getName() + "!");
+        List<ConfigEntry<?>> fromEntries = from.getEntries();
+        List<ConfigEntry<?>> toEntries = to.getEntries();
+        if (fromEntries.size() != toEntries.size())
+            throw new IllegalArgumentException("Mismatching number of entries!");
+
+        ConfigPatch patch = new ConfigPatch(from.createNewInstance());
+        List<ConfigEntry<?>> entries = patch.values.getEntries();
+        for (int i = 0; i < fromEntries.size(); i++) {
+            ConfigEntry<?> fromEntry = fromEntries.get(i);
+            ConfigEntry<?> toEntry = toEntries.get(i);
+            if (!fromEntry.entryTypeInfo().typeClass().equals(toEntry.entryTypeInfo().typeClass()))
+                throw new IllegalArgumentException("Mismatching entry types, Invalid argument type!");
+            if (toEntry instanceof ComputedEntry<?> || (fromEntry.shouldWrite() == toEntry.shouldWrite() && sameValue(fromEntry, toEntry)))
+                continue;
+            copyEntry(toEntry, entries.get(i));
+            patch.changed.set(i);
+        }
+        return patch;
+    }
+
+    /**
+     * Reads a patch that was written by {@link #toJson}.
+     *
+     * @param config a config of the same class as the configs of the patch
+     * @param json   a json object of the names and values of the changed entries, with {@code null} values for the reset entries
+     * @return the read patch
+     */
+    public static ConfigPatch fromJson(MehradConfig config, JsonObject json) {
+        ConfigPatch patch = new ConfigPatch(config.createNewInstance());
+        List<ConfigEntry<?>> entries = patch.values.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            JsonElement value = json.get(entries.get(i).getName());
+            if (value == null)
+                continue;
+            if (value.isJsonNull())
+                entries.get(i).reset();
+            else
+                entries.get(i).fromJson(value);
+            patch.changed.set(i);
+        }
+        return patch;
+    }
+
+    /**
+     * Reads a patch that was written by {@link #writeToBuf}.
+     *
+     * @param config a config of the same class as the configs of the patch
+     * @param buf    the buffer to read the patch from
+     * @return the read patch
+     */
+    public static ConfigPatch readFromBuf(MehradConfig config, FriendlyByteBuf buf) {
+        ConfigPatch patch = new ConfigPatch(config.createNewInstance());
+        List<ConfigEntry<?>> entries = patch.values.getEntries();
+        patch.changed.or(buf.readBitSet());
+        if (patch.changed.length() > entries.size())
+            throw new IllegalArgumentException("Too many entries for config " + config.getId() + "!");
+        for (int i = patch.changed.nextSetBit(0); i >= 0; i = patch.changed.nextSetBit(i + 1)) {
+            if (buf.readBoolean())
+                entries.get(i).readFromBuf(buf);
+            else
+                entries.get(i).reset();
+        }
+        return patch;
+    }
+
+    /**
+     * @return whether the patch doesn't change any entries
+     */
+    public boolean isEmpty() {
+        return this.changed.isEmpty();
+    }
+
+    /**
+     * @return the number of the changed entries
+     */
+    public int size() {
+        return this.changed.cardinality();
+    }
+
+    /**
+     * @param i the index of the entry
+     * @return whether the patch changes the entry
+     */
+    public boolean isChanged(int i) {
+        return this.changed.get(i);
+    }
+
+    /**
+     * @param i the index of the entry
+     * @return the entry of the patch that holds the new value, only meaningful if the entry {@link #isChanged is changed}. The entry isn't
+     * {@link ConfigEntry#shouldWrite written} if the patch resets it.
+     */
+    public ConfigEntry<?> getEntry(int i) {
+        return this.values.getEntries().get(i);
+    }
+
+    /**
+     * Sets the changed entries of the config to the values of this patch. The config is locked while the values are being set.
+     *
+     * @param config the config to apply the patch to, of the same class as the configs of the patch
+     */
+    public void applyTo(MehradConfig config) {
+        List<ConfigEntry<?>> entries = this.values.getEntries();
+        List<ConfigEntry<?>> targets = config.getEntries();
+        synchronized (config) {
+            for (int i = this.changed.nextSetBit(0); i >= 0; i = this.changed.nextSetBit(i + 1))
+                copyEntry(entries.get(i), targets.get(i));
+        }
+    }
+
+    /**
+     * @return a json object of the names and values of the changed entries, with {@code null} values for the reset entries
+     * @see ConfigEntry#toJson
+     */
+    public JsonObject toJson() {
+        List<ConfigEntry<?>> entries = this.values.getEntries();
+        JsonObject json = new JsonObject();
+        for (int i = this.changed.nextSetBit(0); i >= 0; i = this.changed.nextSetBit(i + 1)) {
+            ConfigEntry<?> entry = entries.get(i);
+            json.add(entry.getName(), entry.shouldWrite() ? entry.toJson() : JsonNull.INSTANCE);
+        }
+        return json;
+    }
+
+    /**
+     * Writes the set of the changed entries, followed by whether each of them is written and its value if it is.
+     *
+     * @param buf the buffer to write the patch to
+     * @see ConfigEntry#writeToBuf
+     */
+    public void writeToBuf(FriendlyByteBuf buf) {
+        List<ConfigEntry<?>> entries = this.values.getEntries();
+        buf.writeBitSet(this.changed);
+        for (int i = this.changed.nextSetBit(0); i >= 0; i = this.changed.nextSetBit(i + 1)) {
+            ConfigEntry<?> entry = entries.get(i);
+            buf.writeBoolean(entry.shouldWrite());
+            if (entry.shouldWrite())
+                entry.writeToBuf(buf);
+        }
+    }
+
+    private static boolean sameValue(ConfigEntry<?> entry1, ConfigEntry<?> entry2) {
+        if (entry1 instanceof DecimalEntry<?> decimal1 && entry2 instanceof DecimalEntry<?> decimal2)
+            return decimal1.getDouble() == decimal2.getDouble();
+        return Objects.equals(entry1.get(), entry2.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void copyEntry(ConfigEntry<?> from, ConfigEntry<?> to) {
+        ((ConfigEntry<T>)from).copyTo((ConfigEntry<T>)to);
+    }
+}
@@ -0,0 +1,234 @@
+package ir.mehradn.mehradconfig;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.core.ChangeListeners;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.loader.api.FabricLoader;
+import org.jetbrains.annotations.Nullable;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConfigPresets holds the named presets of a config. A preset is a vector of the values of the config's entries, in the order of
+ * {@link MehradConfig#getEntries}, so applying one only sets the entries and doesn't parse anything. The values are shared between the preset
+ * and the entries, so the values of the entries are expected to be immutable, like the values of all the built-in entries. The entries that
+ * aren't {@link ConfigEntry#shouldWrite written} when a preset is saved, like the optional entries without a value, are reset when it is applied.
+ * <p>
+ * The presets are shared by all the instances of a config with the same {@link MehradConfig#getId id}, and are saved next to the config file,
+ * in {@code {name}.presets.json}. Each preset is saved in the same format as {@link MehradConfig#toJson}, so the saved presets don't depend on the
+ * raw ids of the registries and still load after the mods or the registries change.
+ */
+public final class ConfigPresets {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Map<String, ConfigPresets> PRESETS = new ConcurrentHashMap<>();
+    private static final Object RESET = new Object();
+    private final MehradConfig template;
+    private final Map<String, Object[]> presets = new TreeMap<>();
+    private final ChangeListeners listeners = new ChangeListeners();
+    private volatile String active = null;
+
+    private ConfigPresets(MehradConfig template) {
+        this.template = template;
+    }
+
+    /**
+     * Returns the presets of a config. The presets file is read the first time the presets of a config are requested.
+     *
+     * @param config the config to get the presets of
+     * @return the presets of all the instances of the config
+     */
+    public static ConfigPresets of(MehradConfig config) {
+        return PRESETS.computeIfAbsent(config.getId(), (id) -> {
+            ConfigPresets presets = new ConfigPresets(config.createNewInstance());
+            try {
+                presets.load();
+            } catch (IOException | RuntimeException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Failed to load the presets for \"" + id + "\"!", e);
+            }
+            return presets;
+        });
+    }
+
+    /**
+     * @return the names of the presets, sorted
+     */
+    public synchronized List<String> getNames() {
+        return new ArrayList<>(this.presets.keySet());
+    }
+
+    /**
+     * @param name the name of the preset
+     * @return whether there is a preset with the name
+     */
+    public synchronized boolean contains(String name) {
+        return this.presets.containsKey(name);
+    }
+
+    /**
+     * @return the name of the last applied preset, or {@code null} if no preset has been applied
+     */
+    public @Nullable String getActive() {
+        return this.active;
+    }
+
+    /**
+     * Saves the current values of the config as a preset, replacing any preset with the same name.
+     *
+     * @param name   the name of the preset
+     * @param config the config to copy the values of
+     */
+    public synchronized void capture(String name, MehradConfig config) {
+        this.presets.put(name, capture(config));
+    }
+
+    /**
+     * @param name the name of the preset to remove
+     */
+    public synchronized void remove(String name) {
+        this.presets.remove(name);
+        if (name.equals(this.active))
+            this.active = null;
+    }
+
+    /**
+     * Sets the entries of the config to the values of a preset. The config is locked while the values are being set, and the listeners of the
+     * presets run once after all the values are set.
+     *
+     * @param name   the name of the preset to apply
+     * @param config the config to apply the preset to
+     * @throws IllegalArgumentException if there is no preset with the name
+     */
+    public void apply(String name, MehradConfig config) {
+        Object[] values;
+        synchronized (this) {
+            values = this.presets.get(name);
+        }
+        if (values == null)
+            throw new IllegalArgumentException("Unknown preset \"" + name + "\"!");
+        synchronized (config) {
+            apply(values, config);
+        }
+        this.active = name;
+        this.listeners.run();
+    }
+
+    /**
+     * @param listener runs once after each time a preset is applied
+     */
+    public void addListener(Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * @param listener the listener to remove
+     */
+    public void removeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Writes the presets to the presets file in the config folder, next to the config file.
+     *
+     * @throws IOException if any of the IO operations fail
+     */
+    public void save() throws IOException {
+        Path configDir = FabricLoader.getInstance().getConfigDir();
+        Files.createDirectories(configDir);
+        save(configDir.resolve(this.template.name + ".presets.json"));
+    }
+
+    /**
+     * Writes the presets to the given json file. The file is replaced atomically, so a crash in the middle of a write keeps the old presets.
+     *
+     * @param presetsFile the file to write to
+     * @throws IOException if any of the IO operations fail
+     * @see #save()
+     */
+    public synchronized void save(Path presetsFile) throws IOException {
+        JsonObject json = new JsonObject();
+        for (Map.Entry<String, Object[]> entry : this.presets.entrySet()) {
+            apply(entry.getValue(), this.template);
+            json.add(entry.getKey(), this.template.toJson());
+        }
+        Path tempFile = presetsFile.resolveSibling(presetsFile.getFileName() + ".tmp");
+        try (FileWriter writer = new FileWriter(tempFile.toFile())) {
+            GSON.toJson(json, writer);
+        }
+        Files.move(tempFile, presetsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the presets from the presets file in the config folder, if it exists. The presets of the file replace the current presets.
+     *
+     * @throws IOException if any of the IO operations fail
+     */
+    public void load() throws IOException {
+        Path presetsFile = FabricLoader.getInstance().getConfigDir().resolve(this.template.name + ".presets.json");
+        if (Files.exists(presetsFile))
+            load(presetsFile);
+    }
+
+    /**
+     * Reads the presets from the given json file. The presets of the file replace the current presets. Presets that can't be read, like the
+     * presets with a value that an older version of the config doesn't have, are skipped.
+     *
+     * @param presetsFile the file to read from
+     * @throws IOException if any of the IO operations fail
+     * @see #load()
+     */
+    public synchronized void load(Path presetsFile) throws IOException {
+        JsonObject json;
+        try (FileReader reader = new FileReader(presetsFile.toFile())) {
+            json = GSON.fromJson(reader, JsonObject.class);
+        }
+        this.presets.clear();
+        if (json == null)
+            return;
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            try {
+                this.template.reset();
+                this.template.fromJson(entry.getValue().getAsJsonObject());
+                this.presets.put(entry.getKey(), capture(this.template));
+            } catch (RuntimeException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Failed to read the preset \"" + entry.getKey() + "\" of \"" + this.template.getId() + "\"!", e);
+            }
+        }
+    }
+
+    private static Object[] capture(MehradConfig config) {
+        List<ConfigEntry<?>> entries = config.getEntries();
+        Object[] values = new Object[entries.size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = (entries.get(i).shouldWrite() ? entries.get(i).get() : RESET);
+        return values;
+    }
+
+    private static void apply(Object[] values, MehradConfig config) {
+        List<ConfigEntry<?>> entries = config.getEntries();
+        int size = Math.min(values.length, entries.size());
+        for (int i = 0; i < size; i++) {
+            if (values[i] == RESET)
+                entries.get(i).reset();
+            else
+                set(entries.get(i), values[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void set(ConfigEntry<T> entry, Object value) {
+        entry.set((T)value);
+    }
+}
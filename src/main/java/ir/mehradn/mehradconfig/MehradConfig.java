@@ -3,7 +3,12 @@ package ir.mehradn.mehradconfig;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.codec.ConfigCodec;
+import ir.mehradn.mehradconfig.codec.ConfigCodecCompiler;
+import ir.mehradn.mehradconfig.codec.EncodedPayload;
 import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.metrics.ConfigOperation;
+import ir.mehradn.mehradconfig.metrics.ConfigRecording;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.network.FriendlyByteBuf;
 import java.io.FileReader;
@@ -13,6 +18,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * MehradConfig is an abstract class for creating your own configs.
@@ -29,6 +35,14 @@ public abstract class MehradConfig {
      * The name of the config, used in translations and the name of the config file.
      */
     public final String name;
+    private final String id;
+    private ConfigCodec codec = null;
+    private AtomicLong changeVersion = null;
+    private EncodedPayload encodedPayload = null;
+    private final Object defaultsLock = new Object();
+    private volatile BitSet nonDefault = null;
+    private volatile int nonDefaultCount = 0;
+    private boolean sparse = false;
 
     /**
      * The name of the config will be same as the {@code modId}. The config will be saved in {@code {modId}.json}.
@@ -48,6 +62,7 @@ public abstract class MehradConfig {
     protected MehradConfig(String modId, String name) {
         this.modId = modId;
         this.name = name;
+        this.id = modId + ":" + name;
     }
 
     /**
@@ -86,14 +101,43 @@ public abstract class MehradConfig {
     }
 
     /**
+     * Returns whether all of the config entries are the same as their default values. The entries that aren't default are tracked by
+     * {@link ConfigEntry#addChangeListener change listeners}, which are added the first time this method is called, so after that this method
+     * doesn't loop through the entries.
+     *
      * @return if all of the config entries are the same as their default values
      * @see ConfigEntry#isDefault
      */
     public boolean isAllDefault() {
-        for (ConfigEntry<?> entry : getEntries())
-            if (!entry.isDefault())
-                return false;
-        return true;
+        trackDefaults();
+        return (this.nonDefaultCount == 0);
+    }
+
+    /**
+     * @return the number of the config entries that aren't the same as their default values
+     * @see #isAllDefault
+     */
+    public int getNonDefaultCount() {
+        trackDefaults();
+        return this.nonDefaultCount;
+    }
+
+    /**
+     * In the sparse mode, {@link #toJson} (and so {@link #save}) only writes the entries that aren't the same as their default values. The
+     * missing entries are reset by {@link #fromJson}, so sparse files load the same values. This mode is off by default.
+     *
+     * @param sparse whether this config should be written in the sparse mode
+     */
+    public void setSparse(boolean sparse) {
+        this.sparse = sparse;
+    }
+
+    /**
+     * @return whether this config is written in the sparse mode
+     * @see #setSparse
+     */
+    public boolean isSparse() {
+        return this.sparse;
     }
 
     /**
@@ -115,10 +159,14 @@ public abstract class MehradConfig {
      * @see ConfigEntry#toJson
      */
     public JsonObject toJson() {
+        ConfigRecording recording = ConfigOperation.SERIALIZE.begin();
+        List<ConfigEntry<?>> entries = getEntries();
         JsonObject json = new JsonObject();
-        for (ConfigEntry<?> entry : getEntries())
-            if (entry.shouldWrite())
-                json.add(entry.getName(), entry.toJson());
+        if (this.sparse)
+            toSparseJson(entries, json);
+        else
+            getCodec(entries).toJson(entries, json);
+        recording.end(getId(), 0, entries.size());
         return json;
     }
 
@@ -129,13 +177,10 @@ public abstract class MehradConfig {
      * @see ConfigEntry#fromJson
      */
     public void fromJson(JsonObject json) {
-        for (ConfigEntry<?> entry : this.getEntries()) {
-            String name = entry.getName();
-            if (json.has(name))
-                entry.fromJson(json.get(name));
-            else
-                entry.reset();
-        }
+        ConfigRecording recording = ConfigOperation.DESERIALIZE.begin();
+        List<ConfigEntry<?>> entries = getEntries();
+        getCodec(entries).fromJson(entries, json);
+        recording.end(getId(), 0, entries.size());
     }
 
     /**
@@ -145,17 +190,16 @@ public abstract class MehradConfig {
      * @see ConfigEntry#writeToBuf
      */
     public void writeToBuf(FriendlyByteBuf buf) {
+        ConfigRecording recording = ConfigOperation.ENCODE.begin();
+        int start = buf.writerIndex();
         List<ConfigEntry<?>> entries = getEntries();
-        int size = entries.size();
-        BitSet bs = new BitSet(size);
+        ConfigCodec codec = getCodec(entries);
+        BitSet bs = new BitSet(entries.size());
 
-        for (int i = 0; i < size; i++)
-            bs.set(i, entries.get(i).shouldWrite());
+        codec.markWritten(entries, bs);
         buf.writeBitSet(bs);
-
-        for (int i = 0; i < size; i++)
-            if (bs.get(i))
-                entries.get(i).writeToBuf(buf);
+        codec.writeToBuf(entries, bs, buf);
+        recording.end(getId(), buf.writerIndex() - start, entries.size());
     }
 
     /**
@@ -165,16 +209,48 @@ public abstract class MehradConfig {
      * @see ConfigEntry#readFromBuf
      */
     public void readFromBuf(FriendlyByteBuf buf) {
+        ConfigRecording recording = ConfigOperation.DECODE.begin();
+        int start = buf.readerIndex();
         List<ConfigEntry<?>> entries = getEntries();
-        int size = entries.size();
         BitSet bs = buf.readBitSet();
+        getCodec(entries).readFromBuf(entries, bs, buf);
+        recording.end(getId(), buf.readerIndex() - start, entries.size());
+    }
+
+    /**
+     * Returns a cached copy of this config {@link #writeToBuf encoded} to a packet byte buffer. Use it for sending the same values to many
+     * players, it only encodes the config again after it changes.
+     *
+     * @return a read-only buffer containing the values of this config's entries, it should be released or sent exactly once
+     * @see EncodedPayload#get
+     */
+    public FriendlyByteBuf getEncodedPayload() {
+        return encodedPayload().get();
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (i < bs.size() && bs.get(i))
-                entries.get(i).readFromBuf(buf);
-            else
-                entries.get(i).reset();
+    /**
+     * @return the checksum of this config {@link #writeToBuf encoded} to a packet byte buffer, cached the same way as {@link #getEncodedPayload}
+     * @see EncodedPayload#checksum
+     */
+    public int getEncodedChecksum() {
+        return encodedPayload().checksum();
+    }
+
+    /**
+     * Returns a number that increases whenever the value of any of the entries changes. The changes are tracked by {@link ConfigEntry#addChangeListener
+     * change listeners}, which are added the first time this method is called.
+     *
+     * @return the change version of this config
+     */
+    public synchronized long getChangeVersion() {
+        if (this.changeVersion == null) {
+            AtomicLong version = new AtomicLong();
+            Runnable listener = version::incrementAndGet;
+            for (ConfigEntry<?> entry : getEntries())
+                entry.addChangeListener(listener);
+            this.changeVersion = version;
         }
+        return this.changeVersion.get();
     }
 
     /**
@@ -186,12 +262,23 @@ public abstract class MehradConfig {
     public void save() throws IOException {
         Path configDir = FabricLoader.getInstance().getConfigDir();
         Files.createDirectories(configDir);
+        save(configDir.resolve(this.name + ".json"));
+    }
 
-        Path configFile = configDir.resolve(this.name + ".json");
+    /**
+     * Writes the values of this config's entries to the given json file.
+     *
+     * @param configFile the file to write to
+     * @throws IOException if any of the IO operations fail
+     * @see #save()
+     */
+    public void save(Path configFile) throws IOException {
+        ConfigRecording recording = ConfigOperation.SAVE.begin();
         JsonObject json = toJson();
         try (FileWriter writer = new FileWriter(configFile.toFile())) {
             GSON.toJson(json, writer);
         }
+        recording.end(getId(), recording.isEnabled() ? Files.size(configFile) : 0, getEntries().size());
     }
 
     /**
@@ -201,11 +288,96 @@ public abstract class MehradConfig {
      * @throws IOException if any of the IO operations fail
      */
     public void load() throws IOException {
-        Path configFile = FabricLoader.getInstance().getConfigDir().resolve(this.name + ".json");
+        load(FabricLoader.getInstance().getConfigDir().resolve(this.name + ".json"));
+    }
+
+    /**
+     * Reads and sets the values of this config's entries from the given json file.
+     *
+     * @param configFile the file to read from
+     * @throws IOException if any of the IO operations fail
+     * @see #load()
+     */
+    public void load(Path configFile) throws IOException {
+        ConfigRecording recording = ConfigOperation.LOAD.begin();
         try (FileReader reader = new FileReader(configFile.toFile())) {
             JsonObject json = GSON.fromJson(reader, JsonObject.class);
             fromJson(json);
         }
+        recording.end(getId(), recording.isEnabled() ? Files.size(configFile) : 0, getEntries().size());
+    }
+
+    /**
+     * @return the named presets of this config, shared by all of its instances
+     * @see ConfigPresets
+     */
+    public ConfigPresets getPresets() {
+        return ConfigPresets.of(this);
+    }
+
+    /**
+     * @return the id of this config, in the form of {@code {modId}:{name}}, used in the metrics and the flight recorder events
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    private void toSparseJson(List<ConfigEntry<?>> entries, JsonObject json) {
+        trackDefaults();
+        BitSet nonDefault;
+        synchronized (this.defaultsLock) {
+            nonDefault = (BitSet)this.nonDefault.clone();
+        }
+        for (int i = nonDefault.nextSetBit(0); i >= 0; i = nonDefault.nextSetBit(i + 1)) {
+            ConfigEntry<?> entry = entries.get(i);
+            if (entry.shouldWrite())
+                json.add(entry.getName(), entry.toJson());
+        }
+    }
+
+    private void trackDefaults() {
+        if (this.nonDefault != null)
+            return;
+        synchronized (this.defaultsLock) {
+            if (this.nonDefault != null)
+                return;
+            List<ConfigEntry<?>> entries = getEntries();
+            for (int i = 0; i < entries.size(); i++) {
+                int index = i;
+                entries.get(i).addChangeListener(() -> updateDefault(index));
+            }
+            BitSet nonDefault = new BitSet(entries.size());
+            for (int i = 0; i < entries.size(); i++)
+                if (!entries.get(i).isDefault())
+                    nonDefault.set(i);
+            this.nonDefaultCount = nonDefault.cardinality();
+            this.nonDefault = nonDefault;
+        }
+    }
+
+    private void updateDefault(int i) {
+        synchronized (this.defaultsLock) {
+            BitSet nonDefault = this.nonDefault;
+            if (nonDefault == null)
+                return;
+            boolean isNonDefault = !getEntries().get(i).isDefault();
+            if (nonDefault.get(i) != isNonDefault) {
+                nonDefault.set(i, isNonDefault);
+                this.nonDefaultCount += (isNonDefault ? 1 : -1);
+            }
+        }
+    }
+
+    private synchronized EncodedPayload encodedPayload() {
+        if (this.encodedPayload == null)
+            this.encodedPayload = new EncodedPayload(this);
+        return this.encodedPayload;
+    }
+
+    private ConfigCodec getCodec(List<ConfigEntry<?>> entries) {
+        if (this.codec == null)
+            this.codec = ConfigCodecCompiler.forConfig(this, entries);
+        return this.codec;
     }
 
     private void pairEntries(List<ConfigEntry<?>> entries1, List<ConfigEntry<?>> entries2, SameTypeEntryAction<?> action) {
@@ -216,7 +388,7 @@ public abstract class MehradConfig {
 
     @SuppressWarnings("unchecked")
     private <T> void sameTypeEntry(ConfigEntry<?> entry1, ConfigEntry<?> entry2, SameTypeEntryAction<T> action) {
-        if (!entry1.entryTypeInfo().typeClass().equals(entry2.entryTypeInfo().getClass()))
+        if (!entry1.entryTypeInfo().typeClass().equals(entry2.entryTypeInfo().typeClass()))
             throw new IllegalArgumentException("Mismatching entry types, Invalid argument type!");
         action.run((ConfigEntry<T>)entry1, (ConfigEntry<T>)entry2);
     }
@@ -0,0 +1,61 @@
+package ir.mehradn.mehradconfig.codec;
+
+import io.netty.buffer.ByteBuf;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+
+/**
+ * ByteBufAdapter lets the minecraft-independent config values read from and write to netty buffers, like the packet buffers.
+ *
+ * @param buf the wrapped buffer
+ */
+public record ByteBufAdapter(ByteBuf buf) implements ByteSink, ByteSource {
+    @Override
+    public void writeByte(int value) {
+        this.buf.writeByte(value);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        this.buf.writeBytes(bytes);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        this.buf.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        this.buf.writeLong(value);
+    }
+
+    @Override
+    public byte readByte() {
+        return this.buf.readByte();
+    }
+
+    @Override
+    public int remaining() {
+        return this.buf.readableBytes();
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        if (length < 0 || length > this.buf.readableBytes())
+            throw new IndexOutOfBoundsException("Can't read " + length + " bytes, only " + this.buf.readableBytes() + " bytes are left!");
+        byte[] bytes = new byte[length];
+        this.buf.readBytes(bytes);
+        return bytes;
+    }
+
+    @Override
+    public int readInt() {
+        return this.buf.readInt();
+    }
+
+    @Override
+    public long readLong() {
+        return this.buf.readLong();
+    }
+}
@@ -0,0 +1,58 @@
+package ir.mehradn.mehradconfig.codec;
+
+import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * ConfigCodec reads and writes the values of a config's entries. {@link MehradConfig} uses it for its json and buffer methods, and takes care of
+ * the parts that are the same for every config (like writing the bitset of the written entries).
+ *
+ * @see ConfigCodecCompiler
+ */
+public interface ConfigCodec {
+    /**
+     * Sets the bits of the entries that {@link ConfigEntry#shouldWrite should be written}.
+     *
+     * @param entries the entries of the config
+     * @param written the bitset to set the bits in
+     */
+    void markWritten(List<ConfigEntry<?>> entries, BitSet written);
+
+    /**
+     * Writes the values of the marked entries to the given buffer.
+     *
+     * @param entries the entries of the config
+     * @param written the entries that should be written
+     * @param buf     the buffer to write the values to
+     */
+    void writeToBuf(List<ConfigEntry<?>> entries, BitSet written, FriendlyByteBuf buf);
+
+    /**
+     * Reads the values of the marked entries from the given buffer, and resets the rest of the entries.
+     *
+     * @param entries the entries of the config
+     * @param written the entries that were written
+     * @param buf     the buffer to read the values from
+     */
+    void readFromBuf(List<ConfigEntry<?>> entries, BitSet written, FriendlyByteBuf buf);
+
+    /**
+     * Adds the values of the entries that should be written to the given json object.
+     *
+     * @param entries the entries of the config
+     * @param json    the json object to add the values to
+     */
+    void toJson(List<ConfigEntry<?>> entries, JsonObject json);
+
+    /**
+     * Sets the values of the entries from the given json object, and resets the entries that are missing from it.
+     *
+     * @param entries the entries of the config
+     * @param json    the json object to read the values from
+     */
+    void fromJson(List<ConfigEntry<?>> entries, JsonObject json);
+}
@@ -0,0 +1,285 @@
+package ir.mehradn.mehradconfig.codec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.minecraft.network.FriendlyByteBuf;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConfigCodecCompiler generates a specialized {@link ConfigCodec} for each config class, the first time one of its instances gets written or read.
+ * <p>
+ * The generated codec is a hidden class with one straight-line block of code per entry, which casts the entry to its actual class before calling
+ * it. That way every call site only ever sees one entry class, and the JIT can inline the entries' methods instead of going through the
+ * {@link ConfigEntry} interface in a loop. If the codec can't be generated, or an instance has different entries than the one the codec was
+ * generated from, the looping codec is used instead.
+ * <p>
+ * The compiler can be disabled with the {@code -Dmehrad-config.disableCodecCompiler=true} system property.
+ */
+public final class ConfigCodecCompiler {
+    private static final boolean DISABLED = Boolean.getBoolean("mehrad-config.disableCodecCompiler");
+    private static final int CHUNK_SIZE = 64;
+    private static final String CLASS_NAME = ConfigCodecCompiler.class.getPackageName().replace('.', '/') + "/CompiledConfigCodec";
+    private static final Map<Class<?>, CompiledCodec> CODECS = new ConcurrentHashMap<>();
+
+    private ConfigCodecCompiler() { }
+
+    /**
+     * Returns the codec that should be used for the given config instance. The codec of each config class is generated once, and is then reused for
+     * all the instances of that class.
+     *
+     * @param config  the config instance
+     * @param entries the entries of the config instance
+     * @return a compiled codec if it matches the entries of this instance, otherwise a codec that loops through the entries
+     */
+    public static ConfigCodec forConfig(MehradConfig config, List<ConfigEntry<?>> entries) {
+        if (DISABLED)
+            return InterpretedCodec.INSTANCE;
+        CompiledCodec compiled = CODECS.computeIfAbsent(config.getClass(), (cls) -> compile(cls, entries));
+        if (compiled.codec == null || !compiled.matches(entries))
+            return InterpretedCodec.INSTANCE;
+        return compiled.codec;
+    }
+
+    private static CompiledCodec compile(Class<?> configClass, List<ConfigEntry<?>> entries) {
+        Class<?>[] types = new Class<?>[entries.size()];
+        Class<?>[] owners = new Class<?>[entries.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = entries.get(i).getClass();
+            owners[i] = accessibleOwner(types[i]);
+        }
+
+        try {
+            byte[] bytes = generate(owners);
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            ConfigCodec codec = (ConfigCodec)lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            return new CompiledCodec(codec, types);
+        } catch (Throwable e) {
+            if (e instanceof VirtualMachineError error)
+                throw error;
+            MehradConfigEntrypoint.LOGGER.warn("Failed to compile a codec for \"" + configClass.getName() + "\", falling back to the default codec!", e);
+            return new CompiledCodec(null, types);
+        }
+    }
+
+    private static byte[] generate(Class<?>[] owners) throws NoSuchMethodException {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                return "java/lang/Object";
+            }
+        };
+        cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, CLASS_NAME, null, "java/lang/Object",
+            new String[]{Type.getInternalName(ConfigCodec.class)});
+
+        MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        generateMethod(cw, owners, codecMethod("markWritten", List.class, BitSet.class), ConfigCodecCompiler::markWritten);
+        generateMethod(cw, owners, codecMethod("writeToBuf", List.class, BitSet.class, FriendlyByteBuf.class), ConfigCodecCompiler::writeToBuf);
+        generateMethod(cw, owners, codecMethod("readFromBuf", List.class, BitSet.class, FriendlyByteBuf.class), ConfigCodecCompiler::readFromBuf);
+        generateMethod(cw, owners, codecMethod("toJson", List.class, JsonObject.class), ConfigCodecCompiler::toJson);
+        generateMethod(cw, owners, codecMethod("fromJson", List.class, JsonObject.class), ConfigCodecCompiler::fromJson);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Generates the interface method, which calls a private static method for each chunk of {@link #CHUNK_SIZE} entries. The chunks keep the
+     * generated methods small enough to be compiled by the JIT.
+     */
+    private static void generateMethod(ClassWriter cw, Class<?>[] owners, Method method, EntryGenerator generator) {
+        String name = method.getName();
+        String descriptor = Type.getMethodDescriptor(method);
+        int argCount = method.getParameterCount();
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, descriptor, null, null);
+        mv.visitCode();
+        for (int start = 0, k = 0; start < owners.length; start += CHUNK_SIZE, k++) {
+            for (int arg = 1; arg <= argCount; arg++)
+                mv.visitVarInsn(Opcodes.ALOAD, arg);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, CLASS_NAME, name + "$" + k, descriptor, false);
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        for (int start = 0, k = 0; start < owners.length; start += CHUNK_SIZE, k++) {
+            MethodVisitor chunk = cw.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, name + "$" + k, descriptor, null, null);
+            chunk.visitCode();
+            for (int i = start; i < Math.min(start + CHUNK_SIZE, owners.length); i++)
+                generator.generate(chunk, i, owners[i]);
+            chunk.visitInsn(Opcodes.RETURN);
+            chunk.visitMaxs(0, 0);
+            chunk.visitEnd();
+        }
+    }
+
+    // Locals of the chunk methods: 0 = entries, 1 = bitset or json, 2 = buffer or temporary, 3 = temporary
+
+    private static void markWritten(MethodVisitor mv, int i, Class<?> owner) {
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        pushInt(mv, i);
+        loadEntry(mv, i, owner);
+        invokeEntry(mv, owner, "shouldWrite", boolean.class);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/BitSet", "set", "(IZ)V", false);
+    }
+
+    private static void writeToBuf(MethodVisitor mv, int i, Class<?> owner) {
+        Label skip = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        pushInt(mv, i);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/BitSet", "get", "(I)Z", false);
+        mv.visitJumpInsn(Opcodes.IFEQ, skip);
+        loadEntry(mv, i, owner);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        invokeEntry(mv, owner, "writeToBuf", void.class, FriendlyByteBuf.class);
+        mv.visitLabel(skip);
+    }
+
+    private static void readFromBuf(MethodVisitor mv, int i, Class<?> owner) {
+        Label reset = new Label();
+        Label end = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        pushInt(mv, i);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/util/BitSet", "get", "(I)Z", false);
+        mv.visitJumpInsn(Opcodes.IFEQ, reset);
+        loadEntry(mv, i, owner);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        invokeEntry(mv, owner, "readFromBuf", void.class, FriendlyByteBuf.class);
+        mv.visitJumpInsn(Opcodes.GOTO, end);
+        mv.visitLabel(reset);
+        loadEntry(mv, i, owner);
+        invokeEntry(mv, owner, "reset", void.class);
+        mv.visitLabel(end);
+    }
+
+    private static void toJson(MethodVisitor mv, int i, Class<?> owner) {
+        Label skip = new Label();
+        loadEntry(mv, i, owner);
+        mv.visitVarInsn(Opcodes.ASTORE, 3);
+        mv.visitVarInsn(Opcodes.ALOAD, 3);
+        invokeEntry(mv, owner, "shouldWrite", boolean.class);
+        mv.visitJumpInsn(Opcodes.IFEQ, skip);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 3);
+        invokeEntry(mv, owner, "getName", String.class);
+        mv.visitVarInsn(Opcodes.ALOAD, 3);
+        invokeEntry(mv, owner, "toJson", JsonElement.class);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(JsonObject.class), "add",
+            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class), Type.getType(JsonElement.class)), false);
+        mv.visitLabel(skip);
+    }
+
+    private static void fromJson(MethodVisitor mv, int i, Class<?> owner) {
+        Label reset = new Label();
+        Label end = new Label();
+        loadEntry(mv, i, owner);
+        mv.visitVarInsn(Opcodes.ASTORE, 2);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        invokeEntry(mv, owner, "getName", String.class);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(JsonObject.class), "get",
+            Type.getMethodDescriptor(Type.getType(JsonElement.class), Type.getType(String.class)), false);
+        mv.visitVarInsn(Opcodes.ASTORE, 3);
+        mv.visitVarInsn(Opcodes.ALOAD, 3);
+        mv.visitJumpInsn(Opcodes.IFNULL, reset);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitVarInsn(Opcodes.ALOAD, 3);
+        invokeEntry(mv, owner, "fromJson", void.class, JsonElement.class);
+        mv.visitJumpInsn(Opcodes.GOTO, end);
+        mv.visitLabel(reset);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        invokeEntry(mv, owner, "reset", void.class);
+        mv.visitLabel(end);
+    }
+
+    private static void loadEntry(MethodVisitor mv, int i, Class<?> owner) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        pushInt(mv, i);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(owner));
+    }
+
+    private static void invokeEntry(MethodVisitor mv, Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        Type[] arguments = new Type[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++)
+            arguments[i] = Type.getType(parameterTypes[i]);
+        mv.visitMethodInsn(owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL, Type.getInternalName(owner), name,
+            Type.getMethodDescriptor(Type.getType(returnType), arguments), owner.isInterface());
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5)
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        else if (value <= Byte.MAX_VALUE)
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        else if (value <= Short.MAX_VALUE)
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        else
+            mv.visitLdcInsn(value);
+    }
+
+    private static Method codecMethod(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return ConfigCodec.class.getMethod(name, parameterTypes);
+    }
+
+    /**
+     * Finds the most specific class of the entry that the generated class can access and call all of the entry methods on.
+     */
+    private static Class<?> accessibleOwner(Class<?> type) {
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass())
+            if (isAccessible(cls))
+                return cls;
+        return ConfigEntry.class;
+    }
+
+    private static boolean isAccessible(Class<?> cls) {
+        if (cls.isHidden() || !ConfigEntry.class.isAssignableFrom(cls))
+            return false;
+        for (Class<?> c = cls; c != null; c = c.getEnclosingClass())
+            if (!Modifier.isPublic(c.getModifiers()))
+                return false;
+        try {
+            return Class.forName(cls.getName(), false, ConfigCodecCompiler.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryGenerator {
+        void generate(MethodVisitor mv, int i, Class<?> owner);
+    }
+
+    private record CompiledCodec(ConfigCodec codec, Class<?>[] types) {
+        public boolean matches(List<ConfigEntry<?>> entries) {
+            if (entries.size() != this.types.length)
+                return false;
+            for (int i = 0; i < this.types.length; i++)
+                if (entries.get(i).getClass() != this.types[i])
+                    return false;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ir.mehradn.mehradconfig.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import ir.mehradn.mehradconfig.MehradConfig;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.zip.CRC32;
+
+/**
+ * EncodedPayload caches the {@link MehradConfig#writeToBuf encoded} values of a config, so sending the config to many players encodes it once.
+ * The cache is held as a read-only buffer and is invalidated by the {@link MehradConfig#getChangeVersion change version} of the config.
+ * <p>
+ * Configs that can't track their changes are encoded every time.
+ *
+ * @see MehradConfig#getEncodedPayload
+ */
+public final class EncodedPayload {
+    private final MehradConfig config;
+    private ByteBuf payload = null;
+    private long version = -1;
+    private int checksum = 0;
+
+    /**
+     * @param config the config to encode
+     */
+    public EncodedPayload(MehradConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the encoded values of the config, encodes them again only if the config has changed since the last call. Each call returns a new
+     * read-only duplicate that shares the memory of the cache and has its own reader index, so it can be sent to one recipient. The returned buffer
+     * is retained for the caller, and is released by sending it or by calling {@code release} on it.
+     *
+     * @return a read-only buffer containing the encoded values of the config
+     */
+    public synchronized FriendlyByteBuf get() {
+        update();
+        return new FriendlyByteBuf(this.payload.retainedDuplicate());
+    }
+
+    /**
+     * Returns the CRC32 checksum of the encoded values of the config. Configs with the same values have the same checksum, which lets the two sides
+     * of a connection check whether they are in sync without sending the values.
+     *
+     * @return the checksum of the encoded values
+     */
+    public synchronized int checksum() {
+        update();
+        return this.checksum;
+    }
+
+    /**
+     * Releases the cached buffer. The buffers that were returned by {@link #get} stay valid until they are released.
+     */
+    public synchronized void clear() {
+        if (this.payload != null)
+            this.payload.release();
+        this.payload = null;
+        this.version = -1;
+    }
+
+    private void update() {
+        long version = this.config.getChangeVersion();
+        if (this.payload != null && version == this.version)
+            return;
+
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        this.config.writeToBuf(buf);
+        clear();
+        this.payload = buf.asReadOnly();
+        this.version = version;
+
+        CRC32 crc = new CRC32();
+        crc.update(this.payload.nioBuffer());
+        this.checksum = (int)crc.getValue();
+    }
+}
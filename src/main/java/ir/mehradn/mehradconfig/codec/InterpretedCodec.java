@@ -0,0 +1,60 @@
+package ir.mehradn.mehradconfig.codec;
+
+import com.google.gson.JsonObject;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The config codec that works for any config, by looping through the entries.
+ */
+final class InterpretedCodec implements ConfigCodec {
+    static final InterpretedCodec INSTANCE = new InterpretedCodec();
+
+    private InterpretedCodec() { }
+
+    @Override
+    public void markWritten(List<ConfigEntry<?>> entries, BitSet written) {
+        int size = entries.size();
+        for (int i = 0; i < size; i++)
+            written.set(i, entries.get(i).shouldWrite());
+    }
+
+    @Override
+    public void writeToBuf(List<ConfigEntry<?>> entries, BitSet written, FriendlyByteBuf buf) {
+        int size = entries.size();
+        for (int i = 0; i < size; i++)
+            if (written.get(i))
+                entries.get(i).writeToBuf(buf);
+    }
+
+    @Override
+    public void readFromBuf(List<ConfigEntry<?>> entries, BitSet written, FriendlyByteBuf buf) {
+        int size = entries.size();
+        for (int i = 0; i < size; i++) {
+            if (written.get(i))
+                entries.get(i).readFromBuf(buf);
+            else
+                entries.get(i).reset();
+        }
+    }
+
+    @Override
+    public void toJson(List<ConfigEntry<?>> entries, JsonObject json) {
+        for (ConfigEntry<?> entry : entries)
+            if (entry.shouldWrite())
+                json.add(entry.getName(), entry.toJson());
+    }
+
+    @Override
+    public void fromJson(List<ConfigEntry<?>> entries, JsonObject json) {
+        for (ConfigEntry<?> entry : entries) {
+            String name = entry.getName();
+            if (json.has(name))
+                entry.fromJson(json.get(name));
+            else
+                entry.reset();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ir.mehradn.mehradconfig.entry;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * BooleanConfigConstant is a {@link ConfigConstant} for boolean entries, which reads the value without boxing.
+ *
+ * @param getter a handle that returns the current value, with the type {@code ()boolean}
+ * @see ConfigConstant
+ */
+public record BooleanConfigConstant(MethodHandle getter) {
+    public BooleanConfigConstant {
+        EntryCallSites.checkType(getter, boolean.class);
+    }
+
+    /**
+     * @param entry the config entry to read the value of
+     * @return a constant handle that follows the value of the given entry
+     */
+    public static BooleanConfigConstant of(ConfigEntry<Boolean> entry) {
+        return new BooleanConfigConstant(EntryCallSites.bind(entry, boolean.class));
+    }
+
+    /**
+     * @return the current value of the entry
+     */
+    public boolean get() {
+        try {
+            return (boolean)this.getter.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
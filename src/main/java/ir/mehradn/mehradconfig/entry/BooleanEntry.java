@@ -1,8 +1,6 @@
 package ir.mehradn.mehradconfig.entry;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-import net.minecraft.network.FriendlyByteBuf;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,13 +9,13 @@ import org.jetbrains.annotations.NotNull;
  *
  * @see ConfigEntry
  */
-public class BooleanEntry extends DefaultValueEntry<Boolean> {
+public class BooleanEntry extends CodecEntry<Boolean> {
     /**
      * @param name         the name of the entry
      * @param defaultValue the default value of the entry.
      */
     public BooleanEntry(String name, boolean defaultValue) {
-        super(name, defaultValue);
+        super(name, ValueCodecs.BOOLEAN, defaultValue);
     }
 
     @Override
@@ -25,26 +23,6 @@ public class BooleanEntry extends DefaultValueEntry<Boolean> {
         return Component.translatable(modId + ".mehrad-config.bool." + getName() + "." + value);
     }
 
-    @Override
-    public JsonElement toJson() {
-        return new JsonPrimitive(get());
-    }
-
-    @Override
-    public void fromJson(JsonElement json) {
-        set(json.getAsBoolean());
-    }
-
-    @Override
-    public void writeToBuf(FriendlyByteBuf buf) {
-        buf.writeBoolean(get());
-    }
-
-    @Override
-    public void readFromBuf(FriendlyByteBuf buf) {
-        set(buf.readBoolean());
-    }
-
     @Override
     public BooleanTypeInfo entryTypeInfo() {
         return new BooleanTypeInfo();
@@ -0,0 +1,54 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonElement;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import ir.mehradn.mehradconfig.core.ValueCodec;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * CodecEntry is an implementation of {@link DefaultValueEntry} that leaves its json and byte formats to a {@link ValueCodec} of the core
+ * module.
+ *
+ * @param <T> the type of the config value
+ * @see ConfigEntry
+ * @see ir.mehradn.mehradconfig.core.ValueCodecs
+ */
+public abstract class CodecEntry <T> extends DefaultValueEntry<T> {
+    private final ValueCodec<T> codec;
+
+    /**
+     * @param name         the name of the entry
+     * @param codec        the codec of the values of the entry
+     * @param defaultValue the default value of the entry, it is expected to be pre-trimmed
+     */
+    protected CodecEntry(String name, ValueCodec<T> codec, @NotNull T defaultValue) {
+        super(name, defaultValue);
+        this.codec = codec;
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return this.codec.toJson(get());
+    }
+
+    @Override
+    public void fromJson(JsonElement json) {
+        set(this.codec.fromJson(json));
+    }
+
+    @Override
+    public void write(ByteSink sink) {
+        this.codec.write(sink, get());
+    }
+
+    @Override
+    public void read(ByteSource source) {
+        set(this.codec.read(source));
+    }
+
+    @Override
+    protected T trim(T value) {
+        return this.codec.trim(value);
+    }
+}
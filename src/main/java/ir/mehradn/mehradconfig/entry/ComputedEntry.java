@@ -0,0 +1,197 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import ir.mehradn.mehradconfig.core.ChangeListeners;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ComputedEntry is a read-only config entry whose value is a function of other entries, from the same config or other configs. The result is
+ * cached, and only recomputed on the first {@link #get} after one of the dependencies changes (by {@code set}, {@code reset}, {@code fromJson}
+ * or {@code readFromBuf}), as reported by their {@link ConfigEntry#addChangeListener change listeners}. A change of a dependency is also
+ * reported to the listeners of this entry, so computed entries can depend on each other. The dependencies only hold this entry weakly, so
+ * the computed entries of short-lived copies of a config don't leak into the listeners of the dependencies, and the listeners are removed once
+ * the computed entry is collected.
+ * <p>
+ * Computed entries are never written or read, they are always default, and {@code set} isn't supported.
+ *
+ * @param <T> the type of the config value
+ * @see ConfigEntry
+ */
+public class ComputedEntry <T> implements ConfigEntry<T> {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private final String name;
+    private final Class<T> typeClass;
+    private final Supplier<T> function;
+    private final List<ConfigEntry<?>> dependencies;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private volatile int version = 0;
+    private volatile Cached<T> cached = null;
+
+    /**
+     * The main constructor.
+     *
+     * @param name         the name of the entry
+     * @param typeClass    the class object of the config value
+     * @param function     computes the value, it should only read the values of the dependencies
+     * @param dependencies the config entries that the value is computed from
+     */
+    public ComputedEntry(String name, Class<T> typeClass, Supplier<T> function, ConfigEntry<?>... dependencies) {
+        this.name = name;
+        this.typeClass = typeClass;
+        this.function = function;
+        this.dependencies = List.of(dependencies);
+        Invalidator invalidator = new Invalidator(new WeakReference<>(this));
+        for (ConfigEntry<?> dependency : this.dependencies)
+            dependency.addChangeListener(invalidator);
+        CLEANER.register(this, detach(this.dependencies, invalidator));
+    }
+
+    /**
+     * @param name       the name of the entry
+     * @param typeClass  the class object of the config value
+     * @param dependency the config entry that the value is computed from
+     * @param function   computes the value from the value of the dependency
+     * @param <A>        the type of the dependency
+     * @param <T>        the type of the config value
+     * @return a computed entry
+     */
+    public static <A, T> ComputedEntry<T> of(String name, Class<T> typeClass, ConfigEntry<A> dependency, Function<A, T> function) {
+        return new ComputedEntry<>(name, typeClass, () -> function.apply(dependency.get()), dependency);
+    }
+
+    /**
+     * @param name        the name of the entry
+     * @param typeClass   the class object of the config value
+     * @param dependency1 the first config entry that the value is computed from
+     * @param dependency2 the second config entry that the value is computed from
+     * @param function    computes the value from the values of the dependencies
+     * @param <A>         the type of the first dependency
+     * @param <B>         the type of the second dependency
+     * @param <T>         the type of the config value
+     * @return a computed entry
+     */
+    public static <A, B, T> ComputedEntry<T> of(String name, Class<T> typeClass, ConfigEntry<A> dependency1, ConfigEntry<B> dependency2,
+                                                BiFunction<A, B, T> function) {
+        return new ComputedEntry<>(name, typeClass, () -> function.apply(dependency1.get(), dependency2.get()), dependency1, dependency2);
+    }
+
+    /**
+     * @return the config entries that the value is computed from
+     */
+    public List<ConfigEntry<?>> getDependencies() {
+        return this.dependencies;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public T get() {
+        Cached<T> cached = this.cached;
+        int version = this.version;
+        if (cached != null && cached.version == version)
+            return cached.value;
+        T value = this.function.get();
+        this.cached = new Cached<>(value, version);
+        return value;
+    }
+
+    @Override
+    public void set(T value) {
+        throw new UnsupportedOperationException("Computed entries are read-only!");
+    }
+
+    @Override
+    public void reset() { }
+
+    @Override
+    public boolean isDefault() {
+        return true;
+    }
+
+    @Override
+    public boolean shouldWrite() {
+        return false;
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void copyTo(ConfigEntry<T> entry) { }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull T value) {
+        return Component.literal(value.toString());
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return JsonNull.INSTANCE;
+    }
+
+    @Override
+    public void fromJson(JsonElement json) { }
+
+    @Override
+    public void write(ByteSink sink) { }
+
+    @Override
+    public void read(ByteSource source) { }
+
+    @Override
+    public ComputedTypeInfo<T> entryTypeInfo() {
+        return new ComputedTypeInfo<>(this.typeClass);
+    }
+
+    private void invalidate() {
+        this.version++;
+        this.listeners.run();
+    }
+
+    private static Runnable detach(List<ConfigEntry<?>> dependencies, Runnable listener) {
+        return () -> {
+            for (ConfigEntry<?> dependency : dependencies)
+                dependency.removeChangeListener(listener);
+        };
+    }
+
+    public record ComputedTypeInfo <T>(Class<T> typeClass) implements EntryTypeInfo<T> {
+        public static final String ID = "mehrad-config:computed";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+    }
+
+    private record Cached <T>(T value, int version) { }
+
+    private record Invalidator(WeakReference<ComputedEntry<?>> entry) implements Runnable {
+        @Override
+        public void run() {
+            ComputedEntry<?> entry = this.entry.get();
+            if (entry != null)
+                entry.invalidate();
+        }
+    }
+}
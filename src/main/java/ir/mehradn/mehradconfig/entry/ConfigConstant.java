@@ -0,0 +1,44 @@
+package ir.mehradn.mehradconfig.entry;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * ConfigConstant is a read-only handle to the value of a config entry, for hot code that reads a value which rarely changes. The value is held as
+ * a constant in a {@link java.lang.invoke.MutableCallSite}, which only gets updated when the entry changes (by {@code set}, {@code reset},
+ * {@code fromJson} or {@code readFromBuf}).
+ * <p>
+ * Keep the handle in a {@code static final} field, and the JIT will fold {@link #get} into the current value, exactly like reading a
+ * {@code static final} field. Every change of the entry makes the JIT throw away the code that depended on the old value, so it should only be
+ * used for values that change rarely. This is a record because the JIT trusts the final fields of records, which is needed for the folding.
+ *
+ * @param getter a handle that returns the current value, with the type {@code ()Object}
+ * @param <T>    the type of the config value
+ * @see IntConfigConstant
+ * @see BooleanConfigConstant
+ */
+public record ConfigConstant <T>(MethodHandle getter) {
+    public ConfigConstant {
+        EntryCallSites.checkType(getter, Object.class);
+    }
+
+    /**
+     * @param entry the config entry to read the value of
+     * @param <T>   the type of the config value
+     * @return a constant handle that follows the value of the given entry
+     */
+    public static <T> ConfigConstant<T> of(ConfigEntry<T> entry) {
+        return new ConfigConstant<>(EntryCallSites.bind(entry, Object.class));
+    }
+
+    /**
+     * @return the current value of the entry
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        try {
+            return (T)(Object)this.getter.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,55 +1,22 @@
 package ir.mehradn.mehradconfig.entry;
 
-import com.google.gson.JsonElement;
+import ir.mehradn.mehradconfig.codec.ByteBufAdapter;
+import ir.mehradn.mehradconfig.core.ConfigValue;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * ConfigEntry is an interface for storing and managing config values.
+ * ConfigEntry is an interface for storing and managing config values. It adds the translations and packet buffers to the minecraft-independent
+ * {@link ConfigValue}.
  *
  * @param <T> the type of the config value
  * @see BooleanEntry
  * @see NumberEntry
  * @see EnumEntry
+ * @see ConfigConstant
  */
-public interface ConfigEntry <T> {
-    /**
-     * The name of the entry, used for translation and json
-     *
-     * @return the name of the entry
-     */
-    String getName();
-
-    /**
-     * @return the value of this entry
-     */
-    T get();
-
-    /**
-     * Sets the value of this entry.
-     *
-     * @param value the new value
-     */
-    void set(T value);
-
-    /**
-     * Resets the value to the default value.
-     */
-    void reset();
-
-    /**
-     * @return whether the current value is same as the default value
-     */
-    boolean isDefault();
-
-    /**
-     * Whether the current value should be written. (in json, buffers, ...)
-     *
-     * @return whether the current value should be written
-     */
-    boolean shouldWrite();
-
+public interface ConfigEntry <T> extends ConfigValue<T> {
     /**
      * Copies this entry's value to the given entry
      *
@@ -93,30 +60,22 @@ public interface ConfigEntry <T> {
     }
 
     /**
-     * @return a json element describing the current value
-     */
-    JsonElement toJson();
-
-    /**
-     * Sets the value from a json element. It is safe to assume that the json was generated by {@link #toJson}.
-     *
-     * @param json a json element describing a value, most likely created by {@code toJson}
-     */
-    void fromJson(JsonElement json);
-
-    /**
-     * Writes the current value to the given packet byte buffer.
+     * Writes the current value to the given packet byte buffer, in the same format as {@link #write}.
      *
      * @param buf the buffer to write to
      */
-    void writeToBuf(FriendlyByteBuf buf);
+    default void writeToBuf(FriendlyByteBuf buf) {
+        write(new ByteBufAdapter(buf));
+    }
 
     /**
-     * Reads and sets the value from the given packet byte buffer.
+     * Reads and sets the value from the given packet byte buffer, in the same format as {@link #read}.
      *
      * @param buf the buffer to read from
      */
-    void readFromBuf(FriendlyByteBuf buf);
+    default void readFromBuf(FriendlyByteBuf buf) {
+        read(new ByteBufAdapter(buf));
+    }
 
     /**
      * @return the entry type info
@@ -0,0 +1,218 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import ir.mehradn.mehradconfig.core.ChangeListeners;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * DecimalEntry is the base of the fractional number config entries. The value is held as a {@code double} and compared as one, use
+ * {@link #getDouble} and {@link #setDouble} to avoid boxing.
+ * <p>
+ * Values are clamped between min and max, and if there's a step, rounded to the nearest step from min. Stepped values are written to buffers as
+ * their step index, in as few bytes as the number of steps needs.
+ *
+ * @param <T> the boxed type of the config value
+ * @see ConfigEntry
+ */
+public abstract class DecimalEntry <T extends Number> implements ConfigEntry<T> {
+    protected final double min;
+    protected final double max;
+    protected final double step;
+    private final String name;
+    private final long steps;
+    private final int indexBytes;
+    private final int decimals;
+    private final double scale;
+    private final double defaultValue;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private double value;
+
+    /**
+     * @param name         the name of the entry
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param step         the difference between the allowed values, or {@code 0} to allow any value between min and max
+     * @param defaultValue the default value of the entry.
+     */
+    protected DecimalEntry(String name, double min, double max, double step, double defaultValue) {
+        if (!Double.isFinite(min) || !Double.isFinite(max) || !Double.isFinite(step))
+            throw new IllegalArgumentException("Min, max and step must be finite!");
+        if (max < min)
+            throw new IllegalArgumentException("Min cannot be more than max!");
+        if (step < 0)
+            throw new IllegalArgumentException("Step cannot be negative!");
+        if (Double.isNaN(defaultValue))
+            throw new IllegalArgumentException("Default value cannot be NaN!");
+        this.name = name;
+        this.min = min;
+        this.max = max;
+        this.step = step;
+        if (step == 0) {
+            this.steps = -1;
+            this.indexBytes = 0;
+            this.decimals = -1;
+            this.scale = 1;
+        } else {
+            this.steps = (long)Math.floor((max - min) / step + 1e-9);
+            this.indexBytes = (64 - Long.numberOfLeadingZeros(this.steps) + 7) >>> 3;
+            this.decimals = Math.min(15, Math.max(0, Math.max(decimals(step), decimals(min))));
+            this.scale = Math.pow(10, this.decimals);
+        }
+        this.defaultValue = trim(defaultValue);
+        this.value = this.defaultValue;
+    }
+
+    /**
+     * Creates an optional entry from this config entry.
+     *
+     * @param fallbackEntry the config entry that should provide the default value, avoid using a config entry from the same config
+     * @return an optional entry
+     * @see OptionalEntry
+     */
+    public OptionalEntry<T> makeOptional(ConfigEntry<T> fallbackEntry) {
+        return new OptionalEntry<>(this, fallbackEntry);
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return the current value of the entry
+     */
+    public double getDouble() {
+        return this.value;
+    }
+
+    /**
+     * Trims and sets the value of the entry, without boxing it.
+     *
+     * @param value the new value of the entry
+     */
+    public void setDouble(double value) {
+        double trimmed = trim(value);
+        if (this.value == trimmed)
+            return;
+        this.value = trimmed;
+        this.listeners.run();
+    }
+
+    @Override
+    public void set(T value) {
+        setDouble(value.doubleValue());
+    }
+
+    @Override
+    public void reset() {
+        setDouble(this.defaultValue);
+    }
+
+    @Override
+    public boolean isDefault() {
+        return (this.value == this.defaultValue);
+    }
+
+    @Override
+    public boolean shouldWrite() {
+        return true;
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull T value) {
+        if (this.decimals < 0)
+            return Component.literal(value.toString());
+        return Component.literal(BigDecimal.valueOf(value.doubleValue()).setScale(this.decimals, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return new JsonPrimitive(get());
+    }
+
+    @Override
+    public void fromJson(JsonElement json) {
+        setDouble(json.getAsDouble());
+    }
+
+    /**
+     * Writes the step index of the value as a big-endian number of just enough bytes for the number of steps, or the whole value if there's no
+     * step.
+     */
+    @Override
+    public void write(ByteSink sink) {
+        if (this.steps < 0) {
+            writeValue(sink, this.value);
+            return;
+        }
+        long index = Math.round((this.value - this.min) / this.step);
+        for (int i = this.indexBytes - 1; i >= 0; i--)
+            sink.writeByte((int)(index >>> (i * 8)));
+    }
+
+    @Override
+    public void read(ByteSource source) {
+        if (this.steps < 0) {
+            setDouble(readValue(source));
+            return;
+        }
+        long index = 0;
+        for (int i = 0; i < this.indexBytes; i++)
+            index = (index << 8) | (source.readByte() & 0xFF);
+        setDouble(this.min + index * this.step);
+    }
+
+    @Override
+    public void copyTo(ConfigEntry<T> entry) {
+        if (entry instanceof DecimalEntry<T> decimalEntry)
+            decimalEntry.setDouble(this.value);
+        else
+            entry.set(get());
+    }
+
+    /**
+     * Narrows the value to the precision of the config value type.
+     */
+    protected abstract double narrow(double value);
+
+    /**
+     * Writes the value of an entry that has no step.
+     */
+    protected abstract void writeValue(ByteSink sink, double value);
+
+    /**
+     * Reads the value of an entry that has no step.
+     */
+    protected abstract double readValue(ByteSource source);
+
+    private double trim(double value) {
+        if (Double.isNaN(value))
+            value = this.min;
+        value = Math.min(Math.max(value, this.min), this.max);
+        if (this.steps >= 0) {
+            long index = Math.min(Math.round((value - this.min) / this.step), this.steps);
+            value = Math.rint((this.min + index * this.step) * this.scale) / this.scale;
+        }
+        return narrow(value);
+    }
+
+    private static int decimals(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().scale();
+    }
+}
@@ -1,6 +1,8 @@
 package ir.mehradn.mehradconfig.entry;
 
+import ir.mehradn.mehradconfig.core.ChangeListeners;
 import org.jetbrains.annotations.NotNull;
+import java.util.Objects;
 
 /**
  * DefaultValueEntry is an implementation of {@link ConfigEntry}, Its default value is based on the value passed in the constructor.
@@ -11,7 +13,9 @@ import org.jetbrains.annotations.NotNull;
 public abstract class DefaultValueEntry <T> implements ConfigEntry<T> {
     private final String name;
     private final T defaultValue;
+    private final ChangeListeners listeners = new ChangeListeners();
     private T value;
+    private boolean isDefault = true;
 
     /**
      * @param name         the name of the entry
@@ -46,17 +50,26 @@ public abstract class DefaultValueEntry <T> implements ConfigEntry<T> {
 
     @Override
     public void set(T value) {
-        this.value = trim(value);
+        T trimmed = trim(value);
+        if (Objects.equals(this.value, trimmed))
+            return;
+        this.value = trimmed;
+        this.isDefault = Objects.equals(trimmed, this.defaultValue);
+        this.listeners.run();
     }
 
     @Override
     public void reset() {
+        boolean changed = !Objects.equals(this.value, this.defaultValue);
         this.value = this.defaultValue;
+        this.isDefault = true;
+        if (changed)
+            this.listeners.run();
     }
 
     @Override
     public boolean isDefault() {
-        return (this.value == this.defaultValue);
+        return this.isDefault;
     }
 
     @Override
@@ -64,6 +77,16 @@ public abstract class DefaultValueEntry <T> implements ConfigEntry<T> {
         return true;
     }
 
+    @Override
+    public void addChangeListener(Runnable listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
     @Override
     public void copyTo(ConfigEntry<T> entry) {
         entry.set(this.value);
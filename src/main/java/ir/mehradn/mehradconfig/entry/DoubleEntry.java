@@ -0,0 +1,73 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+
+/**
+ * The double config entry.
+ *
+ * @see DecimalEntry
+ */
+public class DoubleEntry extends DecimalEntry<Double> {
+    /**
+     * The main constructor.
+     *
+     * @param name         the name of the entry
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param step         the difference between the allowed values, or {@code 0} to allow any value between min and max
+     * @param defaultValue the default value of the entry.
+     */
+    public DoubleEntry(String name, double min, double max, double step, double defaultValue) {
+        super(name, min, max, step, defaultValue);
+    }
+
+    /**
+     * @param name         the name of the entry
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param defaultValue the default value of the entry.
+     */
+    public DoubleEntry(String name, double min, double max, double defaultValue) {
+        this(name, min, max, 0, defaultValue);
+    }
+
+    @Override
+    public Double get() {
+        return getDouble();
+    }
+
+    @Override
+    public DoubleTypeInfo entryTypeInfo() {
+        return new DoubleTypeInfo(this.min, this.max, this.step);
+    }
+
+    @Override
+    protected double narrow(double value) {
+        return value;
+    }
+
+    @Override
+    protected void writeValue(ByteSink sink, double value) {
+        sink.writeDouble(value);
+    }
+
+    @Override
+    protected double readValue(ByteSource source) {
+        return source.readDouble();
+    }
+
+    public record DoubleTypeInfo(double min, double max, double step) implements EntryTypeInfo<Double> {
+        public static final String ID = "mehrad-config:double";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<Double> typeClass() {
+            return Double.class;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ir.mehradn.mehradconfig.entry;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+final class EntryCallSites {
+    private EntryCallSites() { }
+
+    /**
+     * Creates a call site that returns the value of the given entry as a constant, and updates it each time the entry changes.
+     *
+     * @param entry the entry to follow
+     * @param type  the return type of the handle, the value gets unboxed for primitive types
+     * @return a handle that invokes the call site
+     */
+    static MethodHandle bind(ConfigEntry<?> entry, Class<?> type) {
+        MutableCallSite callSite = new MutableCallSite(MethodHandles.constant(type, entry.get()));
+        MutableCallSite[] callSites = new MutableCallSite[]{callSite};
+        entry.addChangeListener(() -> {
+            callSite.setTarget(MethodHandles.constant(type, entry.get()));
+            MutableCallSite.syncAll(callSites);
+        });
+        return callSite.dynamicInvoker();
+    }
+
+    static void checkType(MethodHandle getter, Class<?> type) {
+        if (getter.type().parameterCount() != 0 || getter.type().returnType() != type)
+            throw new IllegalArgumentException("The getter must take no arguments and return " + type.getName() + "!");
+    }
+}
@@ -1,8 +1,6 @@
 package ir.mehradn.mehradconfig.entry;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import net.minecraft.network.FriendlyByteBuf;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,8 +10,7 @@ import org.jetbrains.annotations.NotNull;
  * @param <T> type of the enum
  * @see ConfigEntry
  */
-public class EnumEntry <T extends Enum<T>> extends DefaultValueEntry<T> {
-    private static final Gson GSON = new Gson();
+public class EnumEntry <T extends Enum<T>> extends CodecEntry<T> {
     private final Class<T> enumClass;
 
     /**
@@ -24,7 +21,7 @@ public class EnumEntry <T extends Enum<T>> extends DefaultValueEntry<T> {
      * @param defaultValue the default value of the entry.
      */
     public EnumEntry(String name, Class<T> enumClass, T defaultValue) {
-        super(name, defaultValue);
+        super(name, ValueCodecs.enumCodec(enumClass), defaultValue);
         this.enumClass = enumClass;
     }
 
@@ -33,26 +30,6 @@ public class EnumEntry <T extends Enum<T>> extends DefaultValueEntry<T> {
         return Component.translatable(modId + ".mehrad-config.enum." + getName() + "." + value);
     }
 
-    @Override
-    public JsonElement toJson() {
-        return GSON.toJsonTree(get(), this.enumClass);
-    }
-
-    @Override
-    public void fromJson(JsonElement json) {
-        set(GSON.fromJson(json, this.enumClass));
-    }
-
-    @Override
-    public void writeToBuf(FriendlyByteBuf buf) {
-        buf.writeEnum(get());
-    }
-
-    @Override
-    public void readFromBuf(FriendlyByteBuf buf) {
-        set(buf.readEnum(this.enumClass));
-    }
-
     @Override
     public EnumTypeInfo<T> entryTypeInfo() {
         return new EnumTypeInfo<>(this.enumClass);
@@ -0,0 +1,77 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.EnumSelection;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The enum set config entry. The selections are immutable bitmasks of the ordinals of the constants, use {@link #contains} for lookups.
+ *
+ * @param <T> type of the enum
+ * @see ConfigEntry
+ */
+public class EnumSetEntry <T extends Enum<T>> extends CodecEntry<EnumSelection<T>> {
+    private final Class<T> enumClass;
+
+    /**
+     * The main constructor.
+     *
+     * @param name         the name of the entry
+     * @param enumClass    the class object of the enum
+     * @param defaultValue the default value of the entry.
+     */
+    public EnumSetEntry(String name, Class<T> enumClass, EnumSelection<T> defaultValue) {
+        super(name, ValueCodecs.enumSetCodec(enumClass), defaultValue);
+        this.enumClass = enumClass;
+    }
+
+    /**
+     * @param name          the name of the entry
+     * @param enumClass     the class object of the enum
+     * @param defaultValues the constants that are selected by default.
+     */
+    @SafeVarargs
+    public EnumSetEntry(String name, Class<T> enumClass, T... defaultValues) {
+        this(name, enumClass, EnumSelection.of(enumClass, defaultValues));
+    }
+
+    /**
+     * @param constant the constant to look for
+     * @return whether the constant is selected in the current value
+     */
+    public boolean contains(T constant) {
+        return get().contains(constant);
+    }
+
+    /**
+     * Returns the name of the only selected constant, with the same translation key as {@link EnumEntry}, or the number of the selected
+     * constants.
+     */
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull EnumSelection<T> value) {
+        if (value.size() == 1)
+            return Component.translatable(modId + ".mehrad-config.enum." + getName() + "." + value.toList().get(0));
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public EnumSetTypeInfo<T> entryTypeInfo() {
+        return new EnumSetTypeInfo<>(this.enumClass);
+    }
+
+    public record EnumSetTypeInfo <T extends Enum<T>>(Class<T> enumClass) implements EntryTypeInfo<EnumSelection<T>> {
+        public static final String ID = "mehrad-config:enum_set";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<EnumSelection<T>> typeClass() {
+            return (Class<EnumSelection<T>>)(Class<?>)EnumSelection.class;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+
+/**
+ * The float config entry. The values are held as doubles that are rounded to float precision, min, max and step are widened by their
+ * decimal representation, so a step of {@code 0.1f} is a step of {@code 0.1}.
+ *
+ * @see DecimalEntry
+ */
+public class FloatEntry extends DecimalEntry<Float> {
+    /**
+     * The main constructor.
+     *
+     * @param name         the name of the entry
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param step         the difference between the allowed values, or {@code 0} to allow any value between min and max
+     * @param defaultValue the default value of the entry.
+     */
+    public FloatEntry(String name, float min, float max, float step, float defaultValue) {
+        super(name, widen(min), widen(max), widen(step), widen(defaultValue));
+    }
+
+    /**
+     * @param name         the name of the entry
+     * @param min          the minimum value allowed
+     * @param max          the maximum value allowed
+     * @param defaultValue the default value of the entry.
+     */
+    public FloatEntry(String name, float min, float max, float defaultValue) {
+        this(name, min, max, 0, defaultValue);
+    }
+
+    /**
+     * @return the current value of the entry
+     */
+    public float getFloat() {
+        return (float)getDouble();
+    }
+
+    /**
+     * Trims and sets the value of the entry, without boxing it.
+     *
+     * @param value the new value of the entry
+     */
+    public void setFloat(float value) {
+        setDouble(value);
+    }
+
+    @Override
+    public Float get() {
+        return getFloat();
+    }
+
+    @Override
+    public FloatTypeInfo entryTypeInfo() {
+        return new FloatTypeInfo((float)this.min, (float)this.max, (float)this.step);
+    }
+
+    @Override
+    protected double narrow(double value) {
+        return (float)value;
+    }
+
+    @Override
+    protected void writeValue(ByteSink sink, double value) {
+        sink.writeInt(Float.floatToIntBits((float)value));
+    }
+
+    @Override
+    protected double readValue(ByteSource source) {
+        return Float.intBitsToFloat(source.readInt());
+    }
+
+    private static double widen(float value) {
+        return Double.parseDouble(Float.toString(value));
+    }
+
+    public record FloatTypeInfo(float min, float max, float step) implements EntryTypeInfo<Float> {
+        public static final String ID = "mehrad-config:float";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<Float> typeClass() {
+            return Float.class;
+        }
+    }
+}
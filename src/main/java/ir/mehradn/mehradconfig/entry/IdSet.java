@@ -0,0 +1,110 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import net.minecraft.resources.ResourceLocation;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * IdSet is an immutable set of {@link ResourceLocation ResourceLocations}, held as a sorted array.
+ *
+ * @see RegistrySetEntry
+ */
+public final class IdSet {
+    /**
+     * The empty set.
+     */
+    public static final IdSet EMPTY = new IdSet(new ResourceLocation[0]);
+    private final ResourceLocation[] ids;
+
+    private IdSet(ResourceLocation[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * @param ids the ids of the set, duplicates are removed
+     * @return a set of the given ids
+     */
+    public static IdSet of(ResourceLocation... ids) {
+        return (ids.length == 0 ? EMPTY : new IdSet(sortedUnique(ids.clone())));
+    }
+
+    /**
+     * @param ids the ids of the set, duplicates are removed
+     * @return a set of the given ids
+     */
+    public static IdSet of(Collection<ResourceLocation> ids) {
+        return (ids.isEmpty() ? EMPTY : new IdSet(sortedUnique(ids.toArray(new ResourceLocation[0]))));
+    }
+
+    /**
+     * Reads a set that was written by {@link #toJson}.
+     *
+     * @param json a json array of ids
+     * @return a set of the ids of the array
+     */
+    public static IdSet fromJson(JsonElement json) {
+        JsonArray array = json.getAsJsonArray();
+        ResourceLocation[] ids = new ResourceLocation[array.size()];
+        for (int i = 0; i < ids.length; i++)
+            ids[i] = new ResourceLocation(array.get(i).getAsString());
+        return (ids.length == 0 ? EMPTY : new IdSet(sortedUnique(ids)));
+    }
+
+    public int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * @param i the index of the id, in the sorted order
+     * @return the id at the index
+     */
+    public ResourceLocation get(int i) {
+        return this.ids[i];
+    }
+
+    /**
+     * This is a binary search, use {@link RegistrySetEntry#contains} for the registry objects.
+     *
+     * @param id the id to look for
+     * @return whether the set contains the id
+     */
+    public boolean contains(ResourceLocation id) {
+        return Arrays.binarySearch(this.ids, id) >= 0;
+    }
+
+    /**
+     * @return a json array of the sorted ids
+     */
+    public JsonArray toJson() {
+        JsonArray array = new JsonArray(this.ids.length);
+        for (ResourceLocation id : this.ids)
+            array.add(id.toString());
+        return array;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || obj instanceof IdSet set && Arrays.equals(this.ids, set.ids));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.ids);
+    }
+
+    private static ResourceLocation[] sortedUnique(ResourceLocation[] ids) {
+        Arrays.sort(ids);
+        int size = 0;
+        for (int i = 0; i < ids.length; i++)
+            if (size == 0 || !ids[i].equals(ids[size - 1]))
+                ids[size++] = ids[i];
+        return (size == ids.length ? ids : Arrays.copyOf(ids, size));
+    }
+}
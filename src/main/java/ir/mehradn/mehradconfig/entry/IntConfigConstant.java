@@ -0,0 +1,34 @@
+package ir.mehradn.mehradconfig.entry;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * IntConfigConstant is a {@link ConfigConstant} for integer entries, which reads the value without boxing.
+ *
+ * @param getter a handle that returns the current value, with the type {@code ()int}
+ * @see ConfigConstant
+ */
+public record IntConfigConstant(MethodHandle getter) {
+    public IntConfigConstant {
+        EntryCallSites.checkType(getter, int.class);
+    }
+
+    /**
+     * @param entry the config entry to read the value of
+     * @return a constant handle that follows the value of the given entry
+     */
+    public static IntConfigConstant of(ConfigEntry<Integer> entry) {
+        return new IntConfigConstant(EntryCallSites.bind(entry, int.class));
+    }
+
+    /**
+     * @return the current value of the entry
+     */
+    public int get() {
+        try {
+            return (int)this.getter.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.IntList;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The integer list config entry. The lists are immutable and backed by {@code int} arrays, use {@link IntList#contains} for lookups.
+ *
+ * @see ConfigEntry
+ */
+public class IntListEntry extends CodecEntry<IntList> {
+    /**
+     * @param name         the name of the entry
+     * @param defaultValue the default value of the entry.
+     */
+    public IntListEntry(String name, IntList defaultValue) {
+        super(name, ValueCodecs.INT_LIST, defaultValue);
+    }
+
+    /**
+     * @param name          the name of the entry
+     * @param defaultValues the values of the default list of the entry.
+     */
+    public IntListEntry(String name, int... defaultValues) {
+        this(name, IntList.of(defaultValues));
+    }
+
+    /**
+     * @param value the value to look for
+     * @return whether the current list contains the value
+     */
+    public boolean contains(int value) {
+        return get().contains(value);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull IntList value) {
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public IntListTypeInfo entryTypeInfo() {
+        return new IntListTypeInfo();
+    }
+
+    public static final class IntListTypeInfo implements EntryTypeInfo<IntList> {
+        public static final String ID = "mehrad-config:int_list";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<IntList> typeClass() {
+            return IntList.class;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package ir.mehradn.mehradconfig.entry;
 
 import com.google.gson.JsonElement;
-import net.minecraft.network.FriendlyByteBuf;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import ir.mehradn.mehradconfig.core.ChangeListeners;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import java.util.Objects;
 
 /**
  * OptionalEntry is an implementation of {@link ConfigEntry}, Its default value is based on another {@code ConfigEntry}.
@@ -14,7 +17,9 @@ import org.jetbrains.annotations.NotNull;
 public class OptionalEntry <T> implements ConfigEntry<T> {
     private final ConfigEntry<T> optionalEntry;
     private final ConfigEntry<T> fallbackEntry;
+    private final ChangeListeners listeners = new ChangeListeners();
     private boolean hasValue;
+    private boolean listeningToFallback = false;
 
     /**
      * The main constructor.
@@ -56,13 +61,19 @@ public class OptionalEntry <T> implements ConfigEntry<T> {
 
     @Override
     public void set(T value) {
+        T oldValue = get();
+        boolean hadValue = this.hasValue;
         this.hasValue = true;
         this.optionalEntry.set(value);
+        reportChange(oldValue, hadValue);
     }
 
     @Override
     public void reset() {
+        T oldValue = get();
+        boolean hadValue = this.hasValue;
         this.hasValue = false;
+        reportChange(oldValue, hadValue);
     }
 
     @Override
@@ -75,6 +86,26 @@ public class OptionalEntry <T> implements ConfigEntry<T> {
         return this.hasValue;
     }
 
+    /**
+     * The listeners also get called when the value of the fallback entry changes while this entry has no value.
+     */
+    @Override
+    public synchronized void addChangeListener(Runnable listener) {
+        if (!this.listeningToFallback) {
+            this.fallbackEntry.addChangeListener(() -> {
+                if (!this.hasValue)
+                    this.listeners.run();
+            });
+            this.listeningToFallback = true;
+        }
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        this.listeners.remove(listener);
+    }
+
     /**
      * If the optional value is active, sets the given entry's value to that (same as {@link #mergeTo}), otherwise, resets the given entry.
      *
@@ -102,21 +133,35 @@ public class OptionalEntry <T> implements ConfigEntry<T> {
 
     @Override
     public void fromJson(JsonElement json) {
+        T oldValue = get();
+        boolean hadValue = this.hasValue;
+        this.hasValue = true;
         this.optionalEntry.fromJson(json);
+        reportChange(oldValue, hadValue);
     }
 
     @Override
-    public void writeToBuf(FriendlyByteBuf buf) {
-        this.optionalEntry.writeToBuf(buf);
+    public void write(ByteSink sink) {
+        this.optionalEntry.write(sink);
     }
 
     @Override
-    public void readFromBuf(FriendlyByteBuf buf) {
-        this.optionalEntry.readFromBuf(buf);
+    public void read(ByteSource source) {
+        T oldValue = get();
+        boolean hadValue = this.hasValue;
+        this.hasValue = true;
+        this.optionalEntry.read(source);
+        reportChange(oldValue, hadValue);
     }
 
     @Override
     public EntryTypeInfo<T> entryTypeInfo() {
         return this.optionalEntry.entryTypeInfo();
     }
+
+    private void reportChange(T oldValue, boolean hadValue) {
+        // Whether the entry has a value changes isDefault and shouldWrite, even if the value stays the same
+        if (hadValue != this.hasValue || !Objects.equals(oldValue, get()))
+            this.listeners.run();
+    }
 }
@@ -0,0 +1,187 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonElement;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import net.minecraft.core.Registry;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The registry set config entry, a set of the ids of a registry's objects, like blocks or items. The set is compiled to a bitset over the raw ids
+ * of the registry, so {@link #contains} is a single bit test. The bitset is compiled again after the set changes, or after the raw ids of the
+ * registry change.
+ * <p>
+ * In json, the set is an array of the sorted ids. In buffers, it's a checksum of the registry, the raw ids of the objects, and the ids that
+ * aren't in the registry as strings. Reading a buffer with a different registry checksum fails, the raw ids wouldn't mean the same objects.
+ *
+ * @param <T> the type of the registry objects
+ * @see ConfigEntry
+ */
+public class RegistrySetEntry <T> extends DefaultValueEntry<IdSet> {
+    private static final long[] NO_BITS = new long[0];
+    private final Registry<T> registry;
+    private final AtomicInteger registryVersion;
+    private volatile Compiled compiled = null;
+
+    /**
+     * @param name         the name of the entry
+     * @param registry     the registry that the ids belong to
+     * @param defaultValue the default value of the entry.
+     */
+    public RegistrySetEntry(String name, Registry<T> registry, IdSet defaultValue) {
+        super(name, defaultValue);
+        this.registry = registry;
+        this.registryVersion = RegistryVersions.of(registry);
+    }
+
+    /**
+     * @param name       the name of the entry
+     * @param registry   the registry that the ids belong to
+     * @param defaultIds the ids of the default value of the entry.
+     */
+    public RegistrySetEntry(String name, Registry<T> registry, ResourceLocation... defaultIds) {
+        this(name, registry, IdSet.of(defaultIds));
+    }
+
+    /**
+     * @param object a registered object
+     * @return whether the id of the object is in the set
+     */
+    public boolean contains(T object) {
+        int rawId = this.registry.getId(object);
+        if (rawId < 0)
+            return false;
+        long[] bits = getBits();
+        int word = rawId >>> 6;
+        return word < bits.length && (bits[word] & (1L << rawId)) != 0;
+    }
+
+    @Override
+    public void set(IdSet value) {
+        IdSet oldValue = get();
+        super.set(value);
+        if (get() != oldValue)
+            recompile();
+    }
+
+    @Override
+    public void reset() {
+        IdSet oldValue = get();
+        super.reset();
+        if (get() != oldValue)
+            recompile();
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull IdSet value) {
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return get().toJson();
+    }
+
+    @Override
+    public void fromJson(JsonElement json) {
+        set(IdSet.fromJson(json));
+    }
+
+    @Override
+    public void write(ByteSink sink) {
+        IdSet ids = get();
+        int[] rawIds = new int[ids.size()];
+        List<ResourceLocation> unknown = new ArrayList<>(0);
+        int size = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            ResourceLocation id = ids.get(i);
+            if (this.registry.containsKey(id))
+                rawIds[size++] = this.registry.getId(this.registry.get(id));
+            else
+                unknown.add(id);
+        }
+
+        sink.writeInt(RegistryVersions.checksum(this.registry));
+        sink.writeVarInt(size);
+        for (int i = 0; i < size; i++)
+            sink.writeVarInt(rawIds[i]);
+        sink.writeVarInt(unknown.size());
+        for (ResourceLocation id : unknown)
+            sink.writeUtf(id.toString());
+    }
+
+    @Override
+    public void read(ByteSource source) {
+        int checksum = source.readInt();
+        if (checksum != RegistryVersions.checksum(this.registry))
+            throw new IllegalStateException("Mismatching registry " + this.registry.key().location() + " for entry " + getName() + "!");
+
+        ResourceLocation[] ids = new ResourceLocation[source.readLength(1)];
+        for (int i = 0; i < ids.length; i++) {
+            T object = this.registry.byId(source.readVarInt());
+            if (object == null)
+                throw new IllegalStateException("Invalid raw id for entry " + getName() + "!");
+            ids[i] = this.registry.getKey(object);
+        }
+        List<ResourceLocation> all = new ArrayList<>(List.of(ids));
+        int unknownCount = source.readLength(1);
+        for (int i = 0; i < unknownCount; i++)
+            all.add(new ResourceLocation(source.readUtf()));
+        set(IdSet.of(all));
+    }
+
+    @Override
+    public RegistrySetTypeInfo<T> entryTypeInfo() {
+        return new RegistrySetTypeInfo<>(this.registry);
+    }
+
+    private long[] getBits() {
+        Compiled compiled = this.compiled;
+        if (compiled == null || compiled.version != this.registryVersion.get())
+            compiled = recompile();
+        return compiled.bits;
+    }
+
+    private Compiled recompile() {
+        Compiled compiled = new Compiled(this.registryVersion.get(), compile());
+        this.compiled = compiled;
+        return compiled;
+    }
+
+    private long[] compile() {
+        IdSet ids = get();
+        if (ids.size() == 0)
+            return NO_BITS;
+        long[] bits = new long[(this.registry.size() + 63) >>> 6];
+        for (int i = 0; i < ids.size(); i++) {
+            ResourceLocation id = ids.get(i);
+            if (!this.registry.containsKey(id))
+                continue;
+            int rawId = this.registry.getId(this.registry.get(id));
+            if (rawId >= 0 && (rawId >>> 6) < bits.length)
+                bits[rawId >>> 6] |= 1L << rawId;
+        }
+        return bits;
+    }
+
+    private record Compiled(int version, long[] bits) { }
+
+    public record RegistrySetTypeInfo <T>(Registry<T> registry) implements EntryTypeInfo<IdSet> {
+        public static final String ID = "mehrad-config:registry_set";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<IdSet> typeClass() {
+            return IdSet.class;
+        }
+    }
+}
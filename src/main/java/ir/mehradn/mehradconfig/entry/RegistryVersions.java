@@ -0,0 +1,64 @@
+package ir.mehradn.mehradconfig.entry;
+
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.fabricmc.fabric.api.event.registry.RegistryIdRemapCallback;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Tracks the changes of the raw ids of registries. The version of a registry increases when an entry is added to it or when its raw ids are
+ * remapped, like when joining a server. The events are registered once per registry, not per config entry.
+ */
+final class RegistryVersions {
+    private static final Map<Registry<?>, AtomicInteger> VERSIONS = new ConcurrentHashMap<>();
+    private static final Map<Registry<?>, Checksum> CHECKSUMS = new ConcurrentHashMap<>();
+
+    private RegistryVersions() { }
+
+    /**
+     * @param registry the registry
+     * @return the version counter of the registry, keep it instead of looking it up on hot paths
+     */
+    static AtomicInteger of(Registry<?> registry) {
+        return VERSIONS.computeIfAbsent(registry, RegistryVersions::track);
+    }
+
+    /**
+     * @param registry the registry
+     * @return a checksum of the ids of the registry in the order of their raw ids
+     */
+    static int checksum(Registry<?> registry) {
+        int version = of(registry).get();
+        Checksum checksum = CHECKSUMS.get(registry);
+        if (checksum == null || checksum.version != version) {
+            checksum = new Checksum(version, computeChecksum(registry));
+            CHECKSUMS.put(registry, checksum);
+        }
+        return checksum.value;
+    }
+
+    private static <T> AtomicInteger track(Registry<T> registry) {
+        AtomicInteger version = new AtomicInteger();
+        RegistryEntryAddedCallback.event(registry).register((rawId, id, object) -> version.incrementAndGet());
+        RegistryIdRemapCallback.event(registry).register((state) -> version.incrementAndGet());
+        return version;
+    }
+
+    private static <T> int computeChecksum(Registry<T> registry) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < registry.size(); i++) {
+            T object = registry.byId(i);
+            ResourceLocation id = (object == null ? null : registry.getKey(object));
+            crc.update((id == null ? "" : id.toString()).getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        return (int)crc.getValue();
+    }
+
+    private record Checksum(int version, int value) { }
+}
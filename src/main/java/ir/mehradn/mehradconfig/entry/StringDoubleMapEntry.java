@@ -0,0 +1,62 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.StringDoubleMap;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The string to double map config entry. The maps are laid out like the ones of {@link StringIntMapEntry}, with a {@code double} array for the
+ * values, use {@link #getDouble} for lookups without boxing.
+ *
+ * @see ConfigEntry
+ */
+public class StringDoubleMapEntry extends CodecEntry<StringDoubleMap> {
+    /**
+     * @param name         the name of the entry
+     * @param defaultValue the default value of the entry.
+     */
+    public StringDoubleMapEntry(String name, StringDoubleMap defaultValue) {
+        super(name, ValueCodecs.STRING_DOUBLE_MAP, defaultValue);
+    }
+
+    /**
+     * @param name the name of the entry
+     */
+    public StringDoubleMapEntry(String name) {
+        this(name, StringDoubleMap.EMPTY);
+    }
+
+    /**
+     * @param key          the key to look for
+     * @param defaultValue the value to return if the current map doesn't contain the key
+     * @return the value of the key in the current map
+     */
+    public double getDouble(String key, double defaultValue) {
+        return get().getDouble(key, defaultValue);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull StringDoubleMap value) {
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public StringDoubleMapTypeInfo entryTypeInfo() {
+        return new StringDoubleMapTypeInfo();
+    }
+
+    public static final class StringDoubleMapTypeInfo implements EntryTypeInfo<StringDoubleMap> {
+        public static final String ID = "mehrad-config:string_double_map";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<StringDoubleMap> typeClass() {
+            return StringDoubleMap.class;
+        }
+    }
+}
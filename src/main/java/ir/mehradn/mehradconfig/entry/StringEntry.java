@@ -0,0 +1,136 @@
+package ir.mehradn.mehradconfig.entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import ir.mehradn.mehradconfig.core.ByteSink;
+import ir.mehradn.mehradconfig.core.ByteSource;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * The string config entry. Values are cut to the max length and interned, and values that don't match the pattern are ignored.
+ * <p>
+ * The UTF-8 encoding of the value is cached, so writing the same value to many buffers only encodes it once.
+ *
+ * @see ConfigEntry
+ */
+public class StringEntry extends DefaultValueEntry<String> {
+    /**
+     * The default max length, the same as the max length of the strings of {@link FriendlyByteBuf}.
+     */
+    public static final int DEFAULT_MAX_LENGTH = Short.MAX_VALUE;
+    private final int maxLength;
+    private final Pattern pattern;
+    private Encoded encoded = null;
+
+    /**
+     * The main constructor.
+     *
+     * @param name         the name of the entry
+     * @param maxLength    the maximum number of characters allowed
+     * @param pattern      a pattern that the whole value must match, or {@code null} to allow any value
+     * @param defaultValue the default value of the entry.
+     */
+    public StringEntry(String name, int maxLength, @Nullable Pattern pattern, String defaultValue) {
+        super(name, trim(defaultValue, maxLength));
+        if (maxLength <= 0 || maxLength > DEFAULT_MAX_LENGTH)
+            throw new IllegalArgumentException("Max length must be between 1 and " + DEFAULT_MAX_LENGTH + "!");
+        if (pattern != null && !pattern.matcher(get()).matches())
+            throw new IllegalArgumentException("The default value doesn't match the pattern!");
+        this.maxLength = maxLength;
+        this.pattern = pattern;
+    }
+
+    /**
+     * @param name         the name of the entry
+     * @param maxLength    the maximum number of characters allowed
+     * @param defaultValue the default value of the entry.
+     */
+    public StringEntry(String name, int maxLength, String defaultValue) {
+        this(name, maxLength, null, defaultValue);
+    }
+
+    /**
+     * @param name         the name of the entry
+     * @param defaultValue the default value of the entry.
+     */
+    public StringEntry(String name, String defaultValue) {
+        this(name, DEFAULT_MAX_LENGTH, null, defaultValue);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull String value) {
+        return Component.literal(value);
+    }
+
+    @Override
+    public JsonElement toJson() {
+        return new JsonPrimitive(get());
+    }
+
+    @Override
+    public void fromJson(JsonElement json) {
+        set(json.getAsString());
+    }
+
+    @Override
+    public void write(ByteSink sink) {
+        byte[] bytes = getEncoded();
+        sink.writeVarInt(bytes.length);
+        sink.writeBytes(bytes);
+    }
+
+    @Override
+    public void read(ByteSource source) {
+        set(source.readUtf(this.maxLength));
+    }
+
+    @Override
+    public StringTypeInfo entryTypeInfo() {
+        return new StringTypeInfo(this.maxLength, this.pattern);
+    }
+
+    @Override
+    protected String trim(String value) {
+        String trimmed = trim(value, this.maxLength);
+        if (this.pattern != null && !this.pattern.matcher(trimmed).matches())
+            return get();
+        return trimmed;
+    }
+
+    private byte[] getEncoded() {
+        String value = get();
+        Encoded encoded = this.encoded;
+        if (encoded == null || encoded.value != value) {
+            encoded = new Encoded(value, value.getBytes(StandardCharsets.UTF_8));
+            this.encoded = encoded;
+        }
+        return encoded.bytes;
+    }
+
+    private static String trim(String value, int maxLength) {
+        if (value.length() > maxLength && maxLength > 0)
+            value = value.substring(0, Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength);
+        return value.intern();
+    }
+
+    public record StringTypeInfo(int maxLength, @Nullable Pattern pattern) implements EntryTypeInfo<String> {
+        public static final String ID = "mehrad-config:string";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<String> typeClass() {
+            return String.class;
+        }
+    }
+
+    private record Encoded(String value, byte[] bytes) { }
+}
@@ -0,0 +1,62 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.StringIntMap;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The string to integer map config entry. The maps are immutable and backed by an open addressing table of interned keys and an {@code int}
+ * array, use {@link #getInt} for lookups without boxing.
+ *
+ * @see ConfigEntry
+ */
+public class StringIntMapEntry extends CodecEntry<StringIntMap> {
+    /**
+     * @param name         the name of the entry
+     * @param defaultValue the default value of the entry.
+     */
+    public StringIntMapEntry(String name, StringIntMap defaultValue) {
+        super(name, ValueCodecs.STRING_INT_MAP, defaultValue);
+    }
+
+    /**
+     * @param name the name of the entry
+     */
+    public StringIntMapEntry(String name) {
+        this(name, StringIntMap.EMPTY);
+    }
+
+    /**
+     * @param key          the key to look for
+     * @param defaultValue the value to return if the current map doesn't contain the key
+     * @return the value of the key in the current map
+     */
+    public int getInt(String key, int defaultValue) {
+        return get().getInt(key, defaultValue);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull StringIntMap value) {
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public StringIntMapTypeInfo entryTypeInfo() {
+        return new StringIntMapTypeInfo();
+    }
+
+    public static final class StringIntMapTypeInfo implements EntryTypeInfo<StringIntMap> {
+        public static final String ID = "mehrad-config:string_int_map";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<StringIntMap> typeClass() {
+            return StringIntMap.class;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ir.mehradn.mehradconfig.entry;
+
+import ir.mehradn.mehradconfig.core.StringList;
+import ir.mehradn.mehradconfig.core.ValueCodecs;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The string list config entry. The strings are shared between the lists of every config, and big lists are hashed for {@link #contains}.
+ *
+ * @see ConfigEntry
+ */
+public class StringListEntry extends CodecEntry<StringList> {
+    /**
+     * @param name         the name of the entry
+     * @param defaultValue the default value of the entry.
+     */
+    public StringListEntry(String name, StringList defaultValue) {
+        super(name, ValueCodecs.STRING_LIST, defaultValue);
+    }
+
+    /**
+     * @param name          the name of the entry
+     * @param defaultValues the values of the default list of the entry.
+     */
+    public StringListEntry(String name, String... defaultValues) {
+        this(name, StringList.of(defaultValues));
+    }
+
+    /**
+     * @param value the value to look for
+     * @return whether the current list contains the value
+     */
+    public boolean contains(String value) {
+        return get().contains(value);
+    }
+
+    @Override
+    public Component getTranslatedValue(String modId, @NotNull StringList value) {
+        return Component.translatable("mehrad-config.listValue", value.size());
+    }
+
+    @Override
+    public StringListTypeInfo entryTypeInfo() {
+        return new StringListTypeInfo();
+    }
+
+    public static final class StringListTypeInfo implements EntryTypeInfo<StringList> {
+        public static final String ID = "mehrad-config:string_list";
+
+        @Override
+        public String id() {
+            return ID;
+        }
+
+        @Override
+        public Class<StringList> typeClass() {
+            return StringList.class;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ir.mehradn.mehradconfig.entrypoint;
 
+import ir.mehradn.mehradconfig.network.ConfigSyncServer;
 import net.fabricmc.api.ModInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,5 +10,7 @@ public class MehradConfigEntrypoint implements ModInitializer {
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
 
     @Override
-    public void onInitialize() { }
+    public void onInitialize() {
+        ConfigSyncServer.init();
+    }
 }
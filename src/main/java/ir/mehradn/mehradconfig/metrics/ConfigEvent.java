@@ -0,0 +1,63 @@
+package ir.mehradn.mehradconfig.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ConfigEvent is the base of the flight recorder events of config operations. The duration of the operation is recorded by the event itself.
+ * <p>
+ * The events are disabled unless a recording enables them, in which case creating and committing them costs close to nothing.
+ *
+ * @see ConfigOperation
+ */
+@Category("Mehrad Config")
+@StackTrace(false)
+public abstract class ConfigEvent extends Event {
+    @Label("Config")
+    @Description("The modId and the name of the config")
+    public String config;
+
+    @Label("Size")
+    @Description("The number of bytes read or written, zero for json trees")
+    @DataAmount
+    public long size;
+
+    @Label("Entries")
+    @Description("The number of entries of the config")
+    public int entries;
+
+    @Name("ir.mehradn.mehradconfig.Load")
+    @Label("Config Load")
+    @Description("Reading a config file")
+    public static final class Load extends ConfigEvent { }
+
+    @Name("ir.mehradn.mehradconfig.Save")
+    @Label("Config Save")
+    @Description("Writing a config file")
+    public static final class Save extends ConfigEvent { }
+
+    @Name("ir.mehradn.mehradconfig.Serialize")
+    @Label("Config Serialize")
+    @Description("Converting a config to json")
+    public static final class Serialize extends ConfigEvent { }
+
+    @Name("ir.mehradn.mehradconfig.Deserialize")
+    @Label("Config Deserialize")
+    @Description("Setting a config from json")
+    public static final class Deserialize extends ConfigEvent { }
+
+    @Name("ir.mehradn.mehradconfig.Encode")
+    @Label("Config Encode")
+    @Description("Writing a config to a packet buffer")
+    public static final class Encode extends ConfigEvent { }
+
+    @Name("ir.mehradn.mehradconfig.Decode")
+    @Label("Config Decode")
+    @Description("Reading a config from a packet buffer")
+    public static final class Decode extends ConfigEvent { }
+}
@@ -0,0 +1,97 @@
+package ir.mehradn.mehradconfig.metrics;
+
+import com.google.gson.JsonObject;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ConfigMetrics is the in-process registry of the config metrics. For each config and {@link ConfigOperation operation}, it keeps a counter of
+ * the operations ({@code "{operation}.count"}), and histograms of their durations in nanoseconds ({@code "{operation}.nanos"}) and their sizes in
+ * bytes ({@code "{operation}.bytes"}). Mods can register their own metrics too.
+ * <p>
+ * The registry is disabled by default, enable it by setting the system property {@code mehrad-config.metrics} to {@code true}. The flag is read
+ * once, so when it is disabled, the JIT removes the recording code altogether.
+ */
+public final class ConfigMetrics {
+    /**
+     * Whether the metrics are enabled.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("mehrad-config.metrics");
+    private static final ConcurrentMap<MetricKey, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<MetricKey, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private ConfigMetrics() { }
+
+    /**
+     * @param name   the name of the counter
+     * @param config the modId and the name of the config
+     * @return the counter with the given key, creates one if it doesn't exist
+     */
+    public static Counter counter(String name, String config) {
+        return COUNTERS.computeIfAbsent(new MetricKey(name, config), (key) -> new Counter());
+    }
+
+    /**
+     * @param name   the name of the histogram
+     * @param config the modId and the name of the config
+     * @return the histogram with the given key, creates one if it doesn't exist
+     */
+    public static Histogram histogram(String name, String config) {
+        return HISTOGRAMS.computeIfAbsent(new MetricKey(name, config), (key) -> new Histogram());
+    }
+
+    /**
+     * @return an unmodifiable live view of all of the counters
+     */
+    public static Map<MetricKey, Counter> counters() {
+        return Collections.unmodifiableMap(COUNTERS);
+    }
+
+    /**
+     * @return an unmodifiable live view of all of the histograms
+     */
+    public static Map<MetricKey, Histogram> histograms() {
+        return Collections.unmodifiableMap(HISTOGRAMS);
+    }
+
+    /**
+     * Exports the metrics as a json object, grouped by config and then by metric name. Counters are numbers and histograms are objects.
+     *
+     * @return a json object of all of the metrics
+     */
+    public static JsonObject toJson() {
+        Map<String, Map<String, Object>> grouped = new TreeMap<>();
+        COUNTERS.forEach((key, counter) -> grouped.computeIfAbsent(key.config(), (k) -> new TreeMap<>()).put(key.name(), counter));
+        HISTOGRAMS.forEach((key, histogram) -> grouped.computeIfAbsent(key.config(), (k) -> new TreeMap<>()).put(key.name(), histogram));
+
+        JsonObject json = new JsonObject();
+        grouped.forEach((config, metrics) -> {
+            JsonObject configJson = new JsonObject();
+            metrics.forEach((name, metric) -> {
+                if (metric instanceof Counter counter)
+                    configJson.addProperty(name, counter.get());
+                else
+                    configJson.add(name, ((Histogram)metric).toJson());
+            });
+            json.add(config, configJson);
+        });
+        return json;
+    }
+
+    /**
+     * Clears the values of all of the metrics. The metrics stay registered.
+     */
+    public static void clear() {
+        COUNTERS.values().forEach(Counter::clear);
+        HISTOGRAMS.values().forEach(Histogram::clear);
+    }
+
+    static void record(ConfigOperation operation, String config, long size, long nanos) {
+        counter(operation.countMetric, config).increment();
+        histogram(operation.nanosMetric, config).record(nanos);
+        histogram(operation.bytesMetric, config).record(size);
+    }
+}
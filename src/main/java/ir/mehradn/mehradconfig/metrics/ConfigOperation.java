@@ -0,0 +1,47 @@
+package ir.mehradn.mehradconfig.metrics;
+
+/**
+ * The config operations that are recorded, as flight recorder events and in the {@link ConfigMetrics metrics registry}.
+ */
+public enum ConfigOperation {
+    LOAD("load"),
+    SAVE("save"),
+    SERIALIZE("serialize"),
+    DESERIALIZE("deserialize"),
+    ENCODE("encode"),
+    DECODE("decode");
+
+    /**
+     * The prefix of the metric names of this operation.
+     */
+    public final String metricName;
+    final String countMetric;
+    final String nanosMetric;
+    final String bytesMetric;
+
+    ConfigOperation(String metricName) {
+        this.metricName = metricName;
+        this.countMetric = metricName + ".count";
+        this.nanosMetric = metricName + ".nanos";
+        this.bytesMetric = metricName + ".bytes";
+    }
+
+    /**
+     * Starts recording an operation. The returned recording must be {@link ConfigRecording#end ended} once the operation is done.
+     *
+     * @return the started recording
+     */
+    public ConfigRecording begin() {
+        // A switch instead of a factory field, so the event class is known at each call site and the JIT can remove the disabled events
+        ConfigEvent event = switch (this) {
+            case LOAD -> new ConfigEvent.Load();
+            case SAVE -> new ConfigEvent.Save();
+            case SERIALIZE -> new ConfigEvent.Serialize();
+            case DESERIALIZE -> new ConfigEvent.Deserialize();
+            case ENCODE -> new ConfigEvent.Encode();
+            case DECODE -> new ConfigEvent.Decode();
+        };
+        event.begin();
+        return new ConfigRecording(this, event, ConfigMetrics.ENABLED ? System.nanoTime() : 0);
+    }
+}
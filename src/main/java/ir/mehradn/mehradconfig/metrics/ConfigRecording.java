@@ -0,0 +1,39 @@
+package ir.mehradn.mehradconfig.metrics;
+
+/**
+ * A config operation that is being recorded.
+ *
+ * @param operation  the recorded operation
+ * @param event      the flight recorder event of the operation
+ * @param startNanos the time the operation started at, only set if the metrics are enabled
+ * @see ConfigOperation#begin
+ */
+public record ConfigRecording(ConfigOperation operation, ConfigEvent event, long startNanos) {
+    /**
+     * Whether the operation is being recorded at all. Use it to skip computing the size when it isn't needed.
+     *
+     * @return whether either the flight recorder event or the metrics are enabled
+     */
+    public boolean isEnabled() {
+        return ConfigMetrics.ENABLED || this.event.isEnabled();
+    }
+
+    /**
+     * Ends the recording, commits the event and updates the metrics.
+     *
+     * @param config  the modId and the name of the config
+     * @param size    the number of bytes read or written
+     * @param entries the number of entries of the config
+     */
+    public void end(String config, long size, int entries) {
+        this.event.end();
+        if (this.event.shouldCommit()) {
+            this.event.config = config;
+            this.event.size = size;
+            this.event.entries = entries;
+            this.event.commit();
+        }
+        if (ConfigMetrics.ENABLED)
+            ConfigMetrics.record(this.operation, config, size, System.nanoTime() - this.startNanos);
+    }
+}
@@ -0,0 +1,30 @@
+package ir.mehradn.mehradconfig.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that counts up.
+ *
+ * @see ConfigMetrics#counter
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() { }
+
+    public void increment() {
+        this.count.increment();
+    }
+
+    public void add(long amount) {
+        this.count.add(amount);
+    }
+
+    public long get() {
+        return this.count.sum();
+    }
+
+    void clear() {
+        this.count.reset();
+    }
+}
@@ -0,0 +1,100 @@
+package ir.mehradn.mehradconfig.metrics;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that records the distribution of non-negative values, like durations or sizes. The values are counted in power of two buckets, so
+ * recording is lock-free and the memory is fixed, and the percentiles are accurate within a factor of two.
+ *
+ * @see ConfigMetrics#histogram
+ */
+public final class Histogram {
+    private static final int BUCKETS = 64;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram() { }
+
+    /**
+     * @param value the value to record, negative values are recorded as zero
+     */
+    public void record(long value) {
+        value = Math.max(value, 0);
+        this.buckets.incrementAndGet(bucket(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long sum() {
+        return this.sum.sum();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        long count = count();
+        return (count == 0 ? 0 : (double)sum() / count);
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 1
+     * @return the upper bound of the bucket that contains the given percentile, capped at the maximum recorded value
+     */
+    public long percentile(double percentile) {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            count += this.buckets.get(i);
+        long target = (long)Math.ceil(Math.min(Math.max(percentile, 0), 1) * count);
+
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.buckets.get(i);
+            if (seen >= target && seen > 0)
+                return Math.min(upperBound(i), max());
+        }
+        return 0;
+    }
+
+    /**
+     * @return a json object with the count, sum, mean, max and some percentiles of the recorded values
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("count", count());
+        json.addProperty("sum", sum());
+        json.addProperty("mean", mean());
+        json.addProperty("max", max());
+        json.addProperty("p50", percentile(0.5));
+        json.addProperty("p90", percentile(0.9));
+        json.addProperty("p99", percentile(0.99));
+        return json;
+    }
+
+    void clear() {
+        for (int i = 0; i < BUCKETS; i++)
+            this.buckets.set(i, 0);
+        this.count.reset();
+        this.sum.reset();
+        this.max.reset();
+    }
+
+    private static int bucket(long value) {
+        return BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long upperBound(int bucket) {
+        return (1L << bucket) - 1;
+    }
+}
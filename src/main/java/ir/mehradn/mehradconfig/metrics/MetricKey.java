@@ -0,0 +1,14 @@
+package ir.mehradn.mehradconfig.metrics;
+
+/**
+ * The key of a metric in the {@link ConfigMetrics metrics registry}.
+ *
+ * @param name   the name of the metric, like {@code "save.bytes"}
+ * @param config the modId and the name of the config that the metric is about
+ */
+public record MetricKey(String name, String config) {
+    @Override
+    public String toString() {
+        return this.name + "{config=" + this.config + "}";
+    }
+}
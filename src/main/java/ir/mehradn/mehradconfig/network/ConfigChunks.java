@@ -0,0 +1,85 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits configs that are too big for one packet into chunks. The chunks are cut between entries, so the client can decode each chunk as soon
+ * as it arrives. A chunk contains:
+ * <ul>
+ *     <li>the id of the config</li>
+ *     <li>the transfer number, which increases with every transfer of the config</li>
+ *     <li>the index of the chunk and the number of chunks</li>
+ *     <li>the index of the first entry and the number of entries</li>
+ *     <li>for each entry, whether it is written, followed by its value if it is</li>
+ * </ul>
+ * An entry that is bigger than a chunk gets a chunk of its own.
+ */
+final class ConfigChunks {
+    /**
+     * The size that the chunks are cut at, and the size of the configs that are sent in chunks. Well below the limit of the custom payloads.
+     */
+    static final int CHUNK_SIZE = 1 << 18;
+
+    private ConfigChunks() { }
+
+    static boolean needsChunks(SyncedConfig synced) {
+        FriendlyByteBuf payload = synced.config.getEncodedPayload();
+        try {
+            return payload.readableBytes() > CHUNK_SIZE;
+        } finally {
+            payload.release();
+        }
+    }
+
+    static List<Packet<?>> createPackets(SyncedConfig synced) {
+        int transfer = ++synced.transfer;
+        List<ConfigEntry<?>> entries = synced.config.getEntries();
+        List<FriendlyByteBuf> bodies = new ArrayList<>();
+        List<int[]> ranges = new ArrayList<>();
+
+        FriendlyByteBuf body = PacketByteBufs.create();
+        int first = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            int start = body.writerIndex();
+            writeEntry(body, entries.get(i));
+            if (body.writerIndex() > CHUNK_SIZE && i > first) {
+                body.writerIndex(start);
+                bodies.add(body);
+                ranges.add(new int[]{first, i - first});
+                body = PacketByteBufs.create();
+                first = i;
+                writeEntry(body, entries.get(i));
+            }
+        }
+        bodies.add(body);
+        ranges.add(new int[]{first, entries.size() - first});
+
+        List<Packet<?>> packets = new ArrayList<>(bodies.size());
+        for (int i = 0; i < bodies.size(); i++) {
+            FriendlyByteBuf buf = PacketByteBufs.create();
+            buf.writeUtf(synced.id);
+            buf.writeVarInt(transfer);
+            buf.writeVarInt(i);
+            buf.writeVarInt(bodies.size());
+            buf.writeVarInt(ranges.get(i)[0]);
+            buf.writeVarInt(ranges.get(i)[1]);
+            buf.writeBytes(bodies.get(i));
+            bodies.get(i).release();
+            packets.add(ServerPlayNetworking.createS2CPacket(ConfigSync.CHUNK_CHANNEL, buf));
+        }
+        return packets;
+    }
+
+    private static void writeEntry(FriendlyByteBuf buf, ConfigEntry<?> entry) {
+        boolean written = entry.shouldWrite();
+        buf.writeBoolean(written);
+        if (written)
+            entry.writeToBuf(buf);
+    }
+}
@@ -0,0 +1,105 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entry.ConfigEntry;
+import net.minecraft.network.FriendlyByteBuf;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A set of edited entries of a synced config, with their new values. The values are held in a separate instance of the config, so the edits of
+ * an entry can be merged by overwriting them.
+ * <p>
+ * A delta is written in two parts, the header with the id of the config and the edited entries, and the values. The edit packets hold the headers
+ * of all of their deltas before the values, so the server can check the number of the edits before decoding any values.
+ */
+final class ConfigDelta {
+    final SyncedConfig synced;
+    final BitSet edited;
+    private MehradConfig values = null;
+
+    ConfigDelta(SyncedConfig synced) {
+        this(synced, new BitSet());
+    }
+
+    private ConfigDelta(SyncedConfig synced, BitSet edited) {
+        this.synced = synced;
+        this.edited = edited;
+    }
+
+    /**
+     * Reads a header written by {@link #writeHeader}. The values are read separately by {@link #readValues}.
+     *
+     * @param buf the buffer to read from
+     * @return a delta without values
+     */
+    static ConfigDelta readHeader(FriendlyByteBuf buf) {
+        String id = buf.readUtf();
+        SyncedConfig synced = ConfigSync.get(id);
+        if (synced == null)
+            throw new IllegalArgumentException("Unknown config " + id + "!");
+        BitSet edited = buf.readBitSet();
+        if (edited.length() > synced.config.getEntries().size())
+            throw new IllegalArgumentException("Too many entries for config " + id + "!");
+        return new ConfigDelta(synced, edited);
+    }
+
+    void readValues(FriendlyByteBuf buf) {
+        List<ConfigEntry<?>> entries = values().getEntries();
+        for (int i = this.edited.nextSetBit(0); i >= 0; i = this.edited.nextSetBit(i + 1)) {
+            if (buf.readBoolean())
+                entries.get(i).readFromBuf(buf);
+            else
+                entries.get(i).reset();
+        }
+    }
+
+    /**
+     * Sets the value of an entry in this delta, overwriting the previous edit of the entry.
+     *
+     * @param config the config to copy the value from, of the same class as the synced config
+     * @param i      the index of the entry
+     */
+    void edit(MehradConfig config, int i) {
+        copyEntry(config.getEntries().get(i), values().getEntries().get(i));
+        this.edited.set(i);
+    }
+
+    void writeHeader(FriendlyByteBuf buf) {
+        buf.writeUtf(this.synced.id);
+        buf.writeBitSet(this.edited);
+    }
+
+    void writeValues(FriendlyByteBuf buf) {
+        List<ConfigEntry<?>> entries = values().getEntries();
+        for (int i = this.edited.nextSetBit(0); i >= 0; i = this.edited.nextSetBit(i + 1)) {
+            ConfigEntry<?> entry = entries.get(i);
+            buf.writeBoolean(entry.shouldWrite());
+            if (entry.shouldWrite())
+                entry.writeToBuf(buf);
+        }
+    }
+
+    /**
+     * Copies the edited entries to the given config.
+     *
+     * @param config the config to apply the edits to
+     */
+    void applyTo(MehradConfig config) {
+        List<ConfigEntry<?>> entries = values().getEntries();
+        List<ConfigEntry<?>> targets = config.getEntries();
+        for (int i = this.edited.nextSetBit(0); i >= 0; i = this.edited.nextSetBit(i + 1))
+            copyEntry(entries.get(i), targets.get(i));
+    }
+
+    private MehradConfig values() {
+        if (this.values == null)
+            this.values = this.synced.config.createNewInstance();
+        return this.values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void copyEntry(ConfigEntry<?> from, ConfigEntry<?> to) {
+        ((ConfigEntry<T>)from).copyTo((ConfigEntry<T>)to);
+    }
+}
@@ -0,0 +1,18 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+
+/**
+ * An immutable copy of the values of a synced config, handed from the integrated server to the client without encoding it. The values are
+ * copied on the server thread and never modified after that.
+ *
+ * @param synced the synced config
+ * @param values a copy of the values of the config
+ */
+record ConfigSnapshot(SyncedConfig synced, MehradConfig values) {
+    static ConfigSnapshot of(SyncedConfig synced) {
+        MehradConfig values = synced.config.createNewInstance();
+        synced.config.copyTo(values);
+        return new ConfigSnapshot(synced, values);
+    }
+}
@@ -0,0 +1,140 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * ConfigSync sends server-authoritative configs from the server to the players. It is opt-in, only the registered configs are synced and nothing
+ * is sent if no config is registered.
+ * <p>
+ * When a player joins, the client sends the checksums of its values of the registered configs, and the server only sends the configs that don't
+ * match. After that, the changes of the configs are sent once per tick, and the configs that changed in a tick share packets of up to the size of
+ * a chunk.
+ * <p>
+ * Players with the {@link #setEditPermission permission} can edit the configs with {@code ConfigEditOutbox} on the client, which the config
+ * screens use for the configs received from the server. The edits are batched on the client, and applied at once by the server,
+ * {@link #setEditRateLimit rate limited} per player. The edits of the other players are dropped before they are decoded.
+ * <p>
+ * The configs that are bigger than the {@link #setCompressionThreshold compression threshold} are compressed with an algorithm that is agreed on
+ * in the handshake. Configs that are too big for one packet are sent in {@link ConfigChunks chunks}, which the client decodes as they arrive.
+ * <p>
+ * In singleplayer, the integrated server hands the client {@link ConfigSnapshot snapshots} of the configs instead of encoding them.
+ * <p>
+ * Register the configs in the main entrypoint of your mod, so they are registered on both sides, and use {@link SyncedConfig#get} to read them.
+ */
+public final class ConfigSync {
+    /**
+     * The channel of the client's handshake, containing the checksums of its values.
+     */
+    public static final ResourceLocation HELLO_CHANNEL = new ResourceLocation(MehradConfigEntrypoint.MOD_ID, "hello");
+    /**
+     * The channel of the values sent by the server.
+     */
+    public static final ResourceLocation SYNC_CHANNEL = new ResourceLocation(MehradConfigEntrypoint.MOD_ID, "sync");
+    /**
+     * The channel of the chunks of the configs that are too big for one packet.
+     */
+    public static final ResourceLocation CHUNK_CHANNEL = new ResourceLocation(MehradConfigEntrypoint.MOD_ID, "chunk");
+    /**
+     * The channel of the edits sent by the clients.
+     */
+    public static final ResourceLocation EDIT_CHANNEL = new ResourceLocation(MehradConfigEntrypoint.MOD_ID, "edit");
+    private static final Map<String, SyncedConfig> CONFIGS = new LinkedHashMap<>();
+    static volatile LocalReceiver localReceiver = null;
+    static volatile Predicate<ServerPlayer> editPermission = (player) -> player.hasPermissions(2);
+    static volatile int compressionThreshold = 256;
+    static volatile int editBucketCapacity = 64;
+    static volatile double editBucketRefill = 4;
+
+    private ConfigSync() { }
+
+    /**
+     * Registers a config to be synced from the server to the players.
+     *
+     * @param config the config that holds the values of the server, the instance should be loaded and modified by the server
+     * @return the synced config
+     * @throws IllegalArgumentException if a config with the same {@link MehradConfig#getId id} is already registered
+     */
+    public static synchronized SyncedConfig register(MehradConfig config) {
+        SyncedConfig synced = new SyncedConfig(config);
+        if (CONFIGS.putIfAbsent(synced.id, synced) != null)
+            throw new IllegalArgumentException("The config " + synced.id + " is already registered!");
+        return synced;
+    }
+
+    /**
+     * @param id the id of the config
+     * @return the synced config with the given id, or {@code null} if there isn't one
+     */
+    public static synchronized SyncedConfig get(String id) {
+        return CONFIGS.get(id);
+    }
+
+    /**
+     * Sets who can edit the synced configs. By default, the operators with permission level 2 or more can.
+     *
+     * @param permission a predicate that checks whether a player can edit the synced configs
+     */
+    public static void setEditPermission(Predicate<ServerPlayer> permission) {
+        editPermission = permission;
+    }
+
+    /**
+     * Sets the rate limit of the edits of each player. Every edited entry takes a token from the player's bucket, and an edit batch that doesn't
+     * have enough tokens is rejected as a whole before its values are decoded, and the current values of its configs are sent back once the bucket
+     * has tokens again. A batch with more entries than the capacity takes all of the tokens of a full bucket. The bucket starts full and is
+     * refilled every tick. The default is 64 tokens, refilled by 4 per tick.
+     *
+     * @param capacity      the maximum number of tokens in the bucket
+     * @param refillPerTick the number of tokens that are added to the bucket each tick
+     */
+    public static void setEditRateLimit(int capacity, double refillPerTick) {
+        if (capacity <= 0 || refillPerTick < 0)
+            throw new IllegalArgumentException("Invalid rate limit!");
+        editBucketCapacity = capacity;
+        editBucketRefill = refillPerTick;
+    }
+
+    /**
+     * Sets the size that the configs are compressed from. The configs that are smaller than the threshold are sent as they are. The default is
+     * 256 bytes.
+     *
+     * @param threshold the size in bytes, or {@code -1} to disable compression
+     */
+    public static void setCompressionThreshold(int threshold) {
+        if (threshold < -1)
+            throw new IllegalArgumentException("Invalid compression threshold!");
+        compressionThreshold = threshold;
+    }
+
+    static synchronized Collection<SyncedConfig> getAll() {
+        return Collections.unmodifiableCollection(CONFIGS.values());
+    }
+
+    static void writeConfig(FriendlyByteBuf buf, SyncedConfig synced, PayloadCompression compression) {
+        FriendlyByteBuf payload = synced.config.getEncodedPayload();
+        try {
+            buf.writeUtf(synced.id);
+            compression.write(buf, synced, payload);
+        } finally {
+            payload.release();
+        }
+    }
+
+    /**
+     * Receives the configs sent by the integrated server to the client in the same JVM, set by the client side.
+     */
+    @FunctionalInterface
+    interface LocalReceiver {
+        void receive(List<ConfigSnapshot> snapshots);
+    }
+}
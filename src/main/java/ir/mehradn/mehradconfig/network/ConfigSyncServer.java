@@ -0,0 +1,295 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.entrypoint.MehradConfigEntrypoint;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The server side of {@link ConfigSync}. Everything except the packet receivers runs on the server thread.
+ */
+public final class ConfigSyncServer {
+    private static final Map<UUID, PayloadCompression> SYNCED_PLAYERS = new HashMap<>();
+    private static final Map<UUID, TokenBucket> EDIT_BUCKETS = new HashMap<>();
+    private static final Map<UUID, Set<SyncedConfig>> REJECTED_EDITS = new HashMap<>();
+
+    private ConfigSyncServer() { }
+
+    /**
+     * Registers the receivers and the events. Called by the main entrypoint.
+     */
+    public static void init() {
+        ServerPlayNetworking.registerGlobalReceiver(ConfigSync.HELLO_CHANNEL, (server, player, handler, buf, responseSender) -> {
+            PayloadCompression compression;
+            Map<String, Integer> checksums;
+            try {
+                compression = PayloadCompression.negotiate(buf.readVarInt());
+                checksums = readHello(buf);
+            } catch (RuntimeException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Rejected invalid config sync handshake from {}: {}", player.getScoreboardName(), e.getMessage());
+                server.execute(() -> handler.disconnect(Component.translatable("mehrad-config.sync.invalidHandshake")));
+                return;
+            }
+            server.execute(() -> onHello(player, compression, checksums));
+        });
+        ServerPlayNetworking.registerGlobalReceiver(ConfigSync.EDIT_CHANNEL, (server, player, handler, buf, responseSender) -> {
+            // Checked before decoding, the edits of the players that can't edit are dropped without a reply
+            if (!ConfigSync.editPermission.test(player))
+                return;
+            // Only the headers are read here, the values are decoded on the server thread after the edits are charged to the bucket
+            List<ConfigDelta> deltas;
+            try {
+                deltas = readEditHeaders(buf);
+            } catch (RuntimeException e) {
+                MehradConfigEntrypoint.LOGGER.warn("Rejected invalid config edits from {}: {}", player.getScoreboardName(), e.getMessage());
+                return;
+            }
+            buf.retain();
+            server.execute(() -> {
+                try {
+                    onEdit(player, deltas, buf);
+                } finally {
+                    buf.release();
+                }
+            });
+        });
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+            SYNCED_PLAYERS.remove(handler.player.getUUID());
+            EDIT_BUCKETS.remove(handler.player.getUUID());
+            REJECTED_EDITS.remove(handler.player.getUUID());
+        });
+        ServerLifecycleEvents.SERVER_STARTED.register((server) -> {
+            for (SyncedConfig synced : ConfigSync.getAll())
+                synced.markSent();
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register((server) -> {
+            SYNCED_PLAYERS.clear();
+            EDIT_BUCKETS.clear();
+            REJECTED_EDITS.clear();
+        });
+        ServerTickEvents.END_SERVER_TICK.register(ConfigSyncServer::sendChanges);
+    }
+
+    private static Map<String, Integer> readHello(FriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        // A client can't have more synced configs than the server, and each of them takes at least 5 bytes
+        if (size < 0 || size > ConfigSync.getAll().size() || size * 5L > buf.readableBytes())
+            throw new IllegalArgumentException("Invalid number of configs " + size + "!");
+        Map<String, Integer> checksums = new HashMap<>(size);
+        for (int i = 0; i < size; i++)
+            checksums.put(buf.readUtf(), buf.readInt());
+        return checksums;
+    }
+
+    private static List<ConfigDelta> readEditHeaders(FriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        // A packet has at most one delta for each config
+        if (size < 0 || size > ConfigSync.getAll().size())
+            throw new IllegalArgumentException("Invalid number of configs " + size + "!");
+        List<ConfigDelta> deltas = new ArrayList<>(size);
+        Set<SyncedConfig> configs = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            ConfigDelta delta = ConfigDelta.readHeader(buf);
+            if (!configs.add(delta.synced))
+                throw new IllegalArgumentException("Duplicate config " + delta.synced.id + "!");
+            deltas.add(delta);
+        }
+        return deltas;
+    }
+
+    private static void onEdit(ServerPlayer player, List<ConfigDelta> deltas, FriendlyByteBuf buf) {
+        if (player.hasDisconnected() || deltas.isEmpty() || !ConfigSync.editPermission.test(player))
+            return;
+
+        int cost = 0;
+        for (ConfigDelta delta : deltas)
+            cost += delta.edited.cardinality();
+        int tick = player.server.getTickCount();
+        TokenBucket bucket = EDIT_BUCKETS.computeIfAbsent(player.getUUID(),
+            (uuid) -> new TokenBucket(ConfigSync.editBucketCapacity, ConfigSync.editBucketRefill, tick));
+
+        if (!bucket.tryTake(cost, tick)) {
+            MehradConfigEntrypoint.LOGGER.warn("Rejected {} config edits from {}", cost, player.getScoreboardName());
+            // The current values are sent back by sendChanges once the bucket has refilled, so a client that keeps sending edits isn't sent the
+            // configs again for each rejected packet
+            Set<SyncedConfig> rejected = REJECTED_EDITS.computeIfAbsent(player.getUUID(), (uuid) -> new HashSet<>());
+            for (ConfigDelta delta : deltas)
+                rejected.add(delta.synced);
+            return;
+        }
+
+        try {
+            for (ConfigDelta delta : deltas)
+                delta.readValues(buf);
+            if (buf.isReadable())
+                throw new IllegalArgumentException(buf.readableBytes() + " bytes left unread!");
+        } catch (RuntimeException e) {
+            MehradConfigEntrypoint.LOGGER.warn("Rejected invalid config edits from {}: {}", player.getScoreboardName(), e.getMessage());
+            return;
+        }
+
+        // The whole batch is applied in one task of the server thread, so a tick never sees half of it
+        for (ConfigDelta delta : deltas) {
+            delta.applyTo(delta.synced.config);
+            delta.synced.markDirty();
+        }
+    }
+
+    private static void onHello(ServerPlayer player, PayloadCompression compression, Map<String, Integer> checksums) {
+        if (player.hasDisconnected())
+            return;
+        SYNCED_PLAYERS.put(player.getUUID(), compression);
+
+        ConfigSync.LocalReceiver localReceiver = getLocalReceiver(player);
+        if (localReceiver != null) {
+            // The client shares the JVM, copying the values is cheaper than checking the checksums
+            List<ConfigSnapshot> snapshots = new ArrayList<>();
+            for (SyncedConfig synced : ConfigSync.getAll())
+                if (checksums.containsKey(synced.id))
+                    snapshots.add(ConfigSnapshot.of(synced));
+            localReceiver.receive(snapshots);
+            return;
+        }
+
+        List<SyncedConfig> mismatched = new ArrayList<>();
+        for (SyncedConfig synced : ConfigSync.getAll()) {
+            Integer checksum = checksums.get(synced.id);
+            if (checksum != null && checksum != synced.config.getEncodedChecksum())
+                mismatched.add(synced);
+        }
+        if (!mismatched.isEmpty())
+            for (Packet<?> packet : createSyncPackets(mismatched, compression))
+                player.connection.send(packet);
+    }
+
+    private static void sendChanges(MinecraftServer server) {
+        if (!REJECTED_EDITS.isEmpty())
+            sendRejectedEdits(server);
+        if (SYNCED_PLAYERS.isEmpty())
+            return;
+
+        List<SyncedConfig> changed = collectChanges();
+        if (changed == null)
+            return;
+        for (SyncedConfig synced : changed)
+            synced.markSent();
+
+        // The same packets for all of the players with the same compression, a packet only reads its buffer when it is written to each connection
+        Map<PayloadCompression, List<Packet<?>>> packets = new EnumMap<>(PayloadCompression.class);
+        List<ConfigSnapshot> snapshots = null;
+        for (Map.Entry<UUID, PayloadCompression> syncedPlayer : SYNCED_PLAYERS.entrySet()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(syncedPlayer.getKey());
+            if (player == null)
+                continue;
+
+            ConfigSync.LocalReceiver localReceiver = getLocalReceiver(player);
+            if (localReceiver != null) {
+                if (snapshots == null) {
+                    snapshots = new ArrayList<>(changed.size());
+                    for (SyncedConfig synced : changed)
+                        snapshots.add(ConfigSnapshot.of(synced));
+                }
+                localReceiver.receive(snapshots);
+                continue;
+            }
+
+            for (Packet<?> packet : packets.computeIfAbsent(syncedPlayer.getValue(), (c) -> createSyncPackets(changed, c)))
+                player.connection.send(packet);
+        }
+    }
+
+    private static void sendRejectedEdits(MinecraftServer server) {
+        int tick = server.getTickCount();
+        Iterator<Map.Entry<UUID, Set<SyncedConfig>>> iterator = REJECTED_EDITS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Set<SyncedConfig>> rejected = iterator.next();
+            TokenBucket bucket = EDIT_BUCKETS.get(rejected.getKey());
+            if (bucket != null && !bucket.hasTokens(tick))
+                continue;
+            iterator.remove();
+
+            ServerPlayer player = server.getPlayerList().getPlayer(rejected.getKey());
+            if (player == null)
+                continue;
+            // Send the current values back, so the client doesn't keep the rejected values
+            PayloadCompression compression = SYNCED_PLAYERS.getOrDefault(player.getUUID(), PayloadCompression.NONE);
+            for (Packet<?> packet : createSyncPackets(new ArrayList<>(rejected.getValue()), compression))
+                player.connection.send(packet);
+        }
+    }
+
+    private static List<SyncedConfig> collectChanges() {
+        List<SyncedConfig> changed = null;
+        for (SyncedConfig synced : ConfigSync.getAll()) {
+            if (!synced.shouldSend())
+                continue;
+            if (changed == null)
+                changed = new ArrayList<>();
+            changed.add(synced);
+        }
+        return changed;
+    }
+
+    private static ConfigSync.LocalReceiver getLocalReceiver(ServerPlayer player) {
+        ConfigSync.LocalReceiver localReceiver = ConfigSync.localReceiver;
+        if (localReceiver == null || !player.server.isSingleplayerOwner(player.getGameProfile()))
+            return null;
+        return localReceiver;
+    }
+
+    private static List<Packet<?>> createSyncPackets(List<SyncedConfig> configs, PayloadCompression compression) {
+        List<Packet<?>> packets = new ArrayList<>(1);
+        List<Packet<?>> chunks = new ArrayList<>(0);
+        // The configs that don't need chunks share packets, a new packet is started before one would pass the size of a chunk
+        FriendlyByteBuf body = PacketByteBufs.create();
+        int count = 0;
+        for (SyncedConfig synced : configs) {
+            if (ConfigChunks.needsChunks(synced)) {
+                chunks.addAll(ConfigChunks.createPackets(synced));
+                continue;
+            }
+            int start = body.writerIndex();
+            ConfigSync.writeConfig(body, synced, compression);
+            if (body.writerIndex() > ConfigChunks.CHUNK_SIZE && count > 0) {
+                FriendlyByteBuf next = PacketByteBufs.create();
+                next.writeBytes(body, start, body.writerIndex() - start);
+                body.writerIndex(start);
+                packets.add(createSyncPacket(body, count));
+                body = next;
+                count = 0;
+            }
+            count++;
+        }
+
+        if (count > 0)
+            packets.add(createSyncPacket(body, count));
+        else
+            body.release();
+        packets.addAll(chunks);
+        return packets;
+    }
+
+    private static Packet<?> createSyncPacket(FriendlyByteBuf body, int count) {
+        FriendlyByteBuf buf = PacketByteBufs.create();
+        buf.writeVarInt(count);
+        buf.writeBytes(body);
+        body.release();
+        return ServerPlayNetworking.createS2CPacket(ConfigSync.SYNC_CHANNEL, buf);
+    }
+}
@@ -0,0 +1,163 @@
+package ir.mehradn.mehradconfig.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import net.minecraft.network.FriendlyByteBuf;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compression of the configs sent by {@link ConfigSync}. Each algorithm has a bit in the set of algorithms that the client supports, which
+ * the client sends in its handshake. The server picks the best algorithm that both sides support, and marks each payload with the algorithm it
+ * was compressed with.
+ * <p>
+ * Deflate uses a preset dictionary per config class, the encoding of the default values of the config, since the payloads of a config share most
+ * of their bytes with it. The deflaters and inflaters are pooled and reused.
+ */
+enum PayloadCompression {
+    NONE,
+    DEFLATE;
+
+    /**
+     * The set of algorithms that this version supports, as a bitmask of the ordinals.
+     */
+    static final int SUPPORTED = (1 << NONE.ordinal()) | (1 << DEFLATE.ordinal());
+    private static final int MAX_DICTIONARY_SIZE = 1 << 15;
+    private static final Queue<Deflater> DEFLATERS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Inflater> INFLATERS = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param supported the bitmask of the algorithms that the client supports
+     * @return the best algorithm that both sides support
+     */
+    static PayloadCompression negotiate(int supported) {
+        if (ConfigSync.compressionThreshold >= 0 && (supported & (1 << DEFLATE.ordinal())) != 0)
+            return DEFLATE;
+        return NONE;
+    }
+
+    /**
+     * Writes the payload with this algorithm, unless it's smaller than the threshold or doesn't get smaller. Writes the algorithm, the size of the
+     * payload, the size of the written bytes as an int, and the written bytes.
+     *
+     * @param buf     the buffer to write to
+     * @param synced  the config of the payload
+     * @param payload the encoded values of the config, it isn't modified
+     */
+    void write(FriendlyByteBuf buf, SyncedConfig synced, ByteBuf payload) {
+        int size = payload.readableBytes();
+        int start = buf.writerIndex();
+        int threshold = ConfigSync.compressionThreshold;
+        if (this == DEFLATE && threshold >= 0 && size >= threshold) {
+            buf.writeEnum(DEFLATE);
+            buf.writeVarInt(size);
+            int lengthIndex = buf.writerIndex();
+            buf.writeInt(0);
+            int compressed = deflate(buf, synced.getDictionary(), payload, size);
+            if (compressed < size) {
+                buf.setInt(lengthIndex, compressed);
+                return;
+            }
+            buf.writerIndex(start);
+        }
+
+        buf.writeEnum(NONE);
+        buf.writeVarInt(size);
+        buf.writeInt(size);
+        buf.writeBytes(payload, payload.readerIndex(), size);
+    }
+
+    /**
+     * Reads a payload that was written by {@link #write}. The returned buffer must be released.
+     *
+     * @param buf    the buffer to read from
+     * @param synced the config of the payload, or {@code null} to skip it
+     * @return the encoded values of the config, or {@code null} if the payload was skipped
+     * @throws IllegalArgumentException if the payload can't be decompressed
+     */
+    static FriendlyByteBuf read(FriendlyByteBuf buf, SyncedConfig synced) {
+        PayloadCompression compression = buf.readEnum(PayloadCompression.class);
+        int size = buf.readVarInt();
+        ByteBuf stored = buf.readSlice(buf.readInt());
+        if (synced == null)
+            return null;
+        if (compression == NONE)
+            return new FriendlyByteBuf(stored.retain());
+
+        ByteBuf payload = PooledByteBufAllocator.DEFAULT.buffer(size, size);
+        try {
+            inflate(payload, synced.getDictionary(), stored, size);
+        } catch (RuntimeException e) {
+            payload.release();
+            throw e;
+        }
+        return new FriendlyByteBuf(payload);
+    }
+
+    private static int deflate(ByteBuf out, byte[] dictionary, ByteBuf payload, int size) {
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null)
+            deflater = new Deflater();
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(payload.nioBuffer(payload.readerIndex(), size));
+            deflater.finish();
+
+            // Stops once the output is as big as the input, it wouldn't be used anyway
+            int start = out.writerIndex();
+            out.ensureWritable(size + 1);
+            while (!deflater.finished() && out.writerIndex() - start <= size) {
+                ByteBuffer target = out.nioBuffer(out.writerIndex(), out.writableBytes());
+                int written = deflater.deflate(target);
+                out.writerIndex(out.writerIndex() + written);
+                if (out.writableBytes() == 0)
+                    out.ensureWritable(64);
+            }
+            return (deflater.finished() ? out.writerIndex() - start : Integer.MAX_VALUE);
+        } finally {
+            deflater.reset();
+            DEFLATERS.offer(deflater);
+        }
+    }
+
+    private static void inflate(ByteBuf out, byte[] dictionary, ByteBuf stored, int size) {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null)
+            inflater = new Inflater();
+        try {
+            inflater.setInput(stored.nioBuffer());
+            while (!inflater.finished()) {
+                ByteBuffer target = out.nioBuffer(out.writerIndex(), size - out.writerIndex());
+                int written = inflater.inflate(target);
+                out.writerIndex(out.writerIndex() + written);
+                if (written == 0) {
+                    if (inflater.needsDictionary())
+                        inflater.setDictionary(dictionary);
+                    else if (inflater.needsInput() || out.writerIndex() == size)
+                        throw new IllegalArgumentException("Invalid compressed config payload!");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed config payload!", e);
+        } finally {
+            inflater.reset();
+            INFLATERS.offer(inflater);
+        }
+    }
+
+    static byte[] createDictionary(SyncedConfig synced) {
+        FriendlyByteBuf payload = synced.config.createNewInstance().getEncodedPayload();
+        try {
+            int size = Math.min(payload.readableBytes(), MAX_DICTIONARY_SIZE);
+            byte[] dictionary = new byte[size];
+            payload.getBytes(payload.writerIndex() - size, dictionary);
+            return dictionary;
+        } finally {
+            payload.release();
+        }
+    }
+}
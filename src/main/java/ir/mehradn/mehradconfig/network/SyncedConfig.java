@@ -0,0 +1,83 @@
+package ir.mehradn.mehradconfig.network;
+
+import ir.mehradn.mehradconfig.MehradConfig;
+
+/**
+ * SyncedConfig is a server-authoritative config that is registered to {@link ConfigSync}. On the server, it holds the config that is sent to the
+ * players. On the client, it also holds a copy of the config that receives the values sent by the server.
+ *
+ * @see ConfigSync#register
+ */
+public final class SyncedConfig {
+    /**
+     * The config that was registered. It holds the authoritative values on servers and the local values on clients.
+     */
+    public final MehradConfig config;
+    final String id;
+    final MehradConfig received;
+    volatile boolean hasReceived = false;
+    long sentVersion = -1;
+    int transfer = 0;
+    private volatile byte[] dictionary = null;
+    boolean dirty = false;
+
+    SyncedConfig(MehradConfig config) {
+        this.config = config;
+        this.id = config.getId();
+        this.received = config.createNewInstance();
+    }
+
+    /**
+     * @return the id of the config
+     * @see MehradConfig#getId
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the config that should be used. While connected to a server that sent this config, returns the values of the server, otherwise,
+     * returns the registered config.
+     * <p>
+     * <b>Note:</b> The returned config is only modified on the main thread of the client, read it from there.
+     *
+     * @return the config that should be used
+     */
+    public MehradConfig get() {
+        return (this.hasReceived ? this.received : this.config);
+    }
+
+    /**
+     * @return whether the values of the server were received
+     */
+    public boolean hasReceived() {
+        return this.hasReceived;
+    }
+
+    /**
+     * Marks the config as changed, so it is sent to the players on the next tick. The changes of the entries are
+     * {@link MehradConfig#getChangeVersion tracked} and sent automatically, this is only needed to resend the same values.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    byte[] getDictionary() {
+        byte[] dictionary = this.dictionary;
+        if (dictionary == null) {
+            dictionary = PayloadCompression.createDictionary(this);
+            this.dictionary = dictionary;
+        }
+        return dictionary;
+    }
+
+    boolean shouldSend() {
+        long version = this.config.getChangeVersion();
+        return (this.dirty || version != this.sentVersion);
+    }
+
+    void markSent() {
+        this.dirty = false;
+        this.sentVersion = this.config.getChangeVersion();
+    }
+}
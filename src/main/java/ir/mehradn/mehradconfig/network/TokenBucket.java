@@ -0,0 +1,48 @@
+package ir.mehradn.mehradconfig.network;
+
+/**
+ * A token bucket that is refilled by server ticks. Only used on the server thread.
+ */
+final class TokenBucket {
+    private final int capacity;
+    private final double refillPerTick;
+    private double tokens;
+    private int lastTick;
+
+    TokenBucket(int capacity, double refillPerTick, int tick) {
+        this.capacity = capacity;
+        this.refillPerTick = refillPerTick;
+        this.tokens = capacity;
+        this.lastTick = tick;
+    }
+
+    /**
+     * A cost that is more than the capacity is clamped to the capacity, so it is taken when the bucket is full instead of never.
+     *
+     * @param cost the number of tokens to take
+     * @param tick the current server tick
+     * @return whether there were enough tokens, the tokens are only taken if there were
+     */
+    boolean tryTake(int cost, int tick) {
+        refill(tick);
+        cost = Math.min(cost, this.capacity);
+        if (this.tokens < cost)
+            return false;
+        this.tokens -= cost;
+        return true;
+    }
+
+    /**
+     * @param tick the current server tick
+     * @return whether a cost of one token would be taken, without taking it
+     */
+    boolean hasTokens(int tick) {
+        refill(tick);
+        return this.tokens >= 1;
+    }
+
+    private void refill(int tick) {
+        this.tokens = Math.min(this.capacity, this.tokens + (tick - this.lastTick) * this.refillPerTick);
+        this.lastTick = tick;
+    }
+}
@@ -28,5 +28,15 @@ public class MehradConfigTest implements ModInitializer {
             ;
         ModMenuConfig.register(MOD_ID, TestConfig::new);
         ModMenuConfigScreen.register(MOD_ID, builder);
+        checkEncodedPayload();
+    }
+
+    private static void checkEncodedPayload() {
+        // Setting an optional entry to the value of its fallback only changes whether it is written, the cached payload should still be encoded again
+        TestConfig config = new TestConfig();
+        int checksum = config.getEncodedChecksum();
+        config.testOptional.set(config.testBoolean.get());
+        if (config.getEncodedChecksum() == checksum)
+            throw new IllegalStateException("Setting an optional entry to its fallback value didn't invalidate the encoded payload!");
     }
 }
@@ -1,15 +1,17 @@
 package ir.mehradn.mehradconfigtest.config;
 
+import ir.mehradn.mehradconfig.ConfigEntryField;
 import ir.mehradn.mehradconfig.MehradConfig;
 import ir.mehradn.mehradconfig.entry.*;
 import ir.mehradn.mehradconfigtest.MehradConfigTest;
 import java.util.List;
 
 public class TestConfig extends MehradConfig {
-    public final BooleanEntry testBoolean = new BooleanEntry("testBoolean", true);
-    public final EnumEntry<TestEnum> testEnum = new EnumEntry<>("testEnum", TestEnum.class, TestEnum.VALUE_2);
-    public final NumberEntry testNumber = new NumberEntry("testNumber", 21, 69, 34);
-    public final OptionalEntry<Boolean> testOptional = new BooleanEntry("testOptional", false).makeOptional(this.testBoolean);
+    @ConfigEntryField public final BooleanEntry testBoolean = new BooleanEntry("testBoolean", true);
+    @ConfigEntryField public final EnumEntry<TestEnum> testEnum = new EnumEntry<>("testEnum", TestEnum.class, TestEnum.VALUE_2);
+    @ConfigEntryField public final NumberEntry testNumber = new NumberEntry("testNumber", 21, 69, 34);
+    @ConfigEntryField public final OptionalEntry<Boolean> testOptional = new BooleanEntry("testOptional", false).makeOptional(this.testBoolean);
+    private final List<ConfigEntry<?>> entries = TestConfigEntries.entries(this);
 
     public TestConfig() {
         super(MehradConfigTest.MOD_ID);
@@ -17,17 +19,12 @@ public class TestConfig extends MehradConfig {
 
     @Override
     public List<ConfigEntry<?>> getEntries() {
-        return List.of(
-            this.testBoolean,
-            this.testEnum,
-            this.testNumber,
-            this.testOptional
-        );
+        return this.entries;
     }
 
     @Override
     public MehradConfig createNewInstance() {
-        return new TestConfig();
+        return TestConfigEntries.createNewInstance();
     }
 
     public enum TestEnum {